@@ -1,5 +1,7 @@
 package dev.cleanslice.platform.common.events;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.UUID;
 
 /**
@@ -15,8 +17,14 @@ public class FileVersionUploadedEvent extends DomainEvent {
     private final String contentType;
     private final long size;
 
-    public FileVersionUploadedEvent(UUID fileId, UUID versionId, int versionNumber,
-                                   UUID ownerId, String filename, String contentType, long size) {
+    @JsonCreator
+    public FileVersionUploadedEvent(@JsonProperty("fileId") UUID fileId,
+                                    @JsonProperty("versionId") UUID versionId,
+                                    @JsonProperty("versionNumber") int versionNumber,
+                                    @JsonProperty("ownerId") UUID ownerId,
+                                    @JsonProperty("filename") String filename,
+                                    @JsonProperty("contentType") String contentType,
+                                    @JsonProperty("size") long size) {
         super("FileVersionUploaded");
         this.fileId = fileId;
         this.versionId = versionId;
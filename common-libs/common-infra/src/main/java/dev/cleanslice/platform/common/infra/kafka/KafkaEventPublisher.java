@@ -0,0 +1,130 @@
+package dev.cleanslice.platform.common.infra.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared asynchronous publisher for JSON domain events.
+ * <p>
+ * Every record carries the {@code __TypeId__} header consumers use to pick the event class.
+ * Sends are never awaited here: callers get the future and completion is recorded as
+ * {@code events.publish} timings tagged by topic and outcome. At most
+ * {@code maxInFlight} sends may be unacknowledged at once; beyond that callers block for
+ * up to {@code acquireTimeout} and are then rejected, so a slow broker pushes back instead
+ * of filling the producer buffer. Batch sizes, compression ratios and queue times come
+ * from the producer's own metrics under {@code kafka.producer.*}.
+ */
+@Slf4j
+public class KafkaEventPublisher implements DisposableBean {
+
+    static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+    private final Duration acquireTimeout;
+
+    public KafkaEventPublisher(KafkaTemplate<String, byte[]> kafkaTemplate, ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry, int maxInFlight, Duration acquireTimeout) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in-flight sends must be positive");
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.acquireTimeout = acquireTimeout;
+        meterRegistry.gauge("events.publish.in-flight", inFlight, s -> maxInFlight - s.availablePermits());
+    }
+
+    /**
+     * Serializes the event to JSON and publishes it, typed by its class name.
+     */
+    public CompletableFuture<SendResult<String, byte[]>> publish(String topic, String key, Object event) {
+        return publish(topic, key, event.getClass().getName(), toJson(event));
+    }
+
+    /**
+     * Publishes an already serialized event.
+     *
+     * @throws IllegalStateException if the in-flight limit stays exhausted for the acquire timeout
+     */
+    public CompletableFuture<SendResult<String, byte[]>> publish(String topic, String key, String eventType,
+                                                                 byte[] payload) {
+        acquire(topic);
+        var rec = new ProducerRecord<>(topic, key, payload);
+        rec.headers().add(TYPE_ID_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> send;
+        try {
+            send = kafkaTemplate.send(rec);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            record(topic, start, e);
+            throw e;
+        }
+        return send.whenComplete((result, error) -> {
+            inFlight.release();
+            record(topic, start, error);
+            if (error != null) {
+                log.warn("Failed to publish {} with key {} to {}", eventType, key, topic, error);
+            }
+        });
+    }
+
+    private void acquire(String topic) {
+        try {
+            if (!inFlight.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("events.publish.rejected", "topic", topic).increment();
+                throw new IllegalStateException("Too many unacknowledged events, rejecting publish to " + topic);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to publish to " + topic, e);
+        }
+    }
+
+    private void record(String topic, long start, Throwable error) {
+        Timer.builder("events.publish")
+                .description("Time from send until the broker acknowledged the event")
+                .tag("topic", topic)
+                .tag("outcome", error == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private byte[] toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + event.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // The publisher owns its producer; the application's producer factory is untouched
+        if (kafkaTemplate.getProducerFactory() instanceof DisposableBean producerFactory) {
+            try {
+                producerFactory.destroy();
+            } catch (Exception e) {
+                log.warn("Failed to close event producer", e);
+            }
+        }
+    }
+}
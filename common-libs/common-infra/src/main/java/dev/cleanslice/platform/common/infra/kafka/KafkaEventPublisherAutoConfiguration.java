@@ -0,0 +1,57 @@
+package dev.cleanslice.platform.common.infra.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Event publishing pipeline for services with Kafka on the classpath.
+ * <p>
+ * The publisher has its own producer, configured from {@code spring.kafka.*} on top of
+ * the batching and compression preset chosen with {@code events.producer.profile}.
+ * Creating it opens no connection; services that never publish pay nothing.
+ */
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
+@ConditionalOnClass({KafkaTemplate.class, ObjectMapper.class})
+public class KafkaEventPublisherAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public KafkaEventPublisher kafkaEventPublisher(
+            KafkaProperties kafkaProperties,
+            ObjectProvider<ObjectMapper> objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${events.producer.profile:balanced}") ProducerProfile profile,
+            @Value("${events.producer.max-in-flight:10000}") int maxInFlight,
+            @Value("${events.producer.acquire-timeout:5s}") Duration acquireTimeout) {
+        Map<String, Object> producerProperties = new HashMap<>();
+        profile.applyTo(producerProperties);
+        producerProperties.putAll(kafkaProperties.buildProducerProperties(null));
+
+        var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        var producerFactory = new DefaultKafkaProducerFactory<>(producerProperties,
+                new StringSerializer(), new ByteArraySerializer());
+        producerFactory.addListener(new MicrometerProducerListener<>(registry));
+
+        return new KafkaEventPublisher(new KafkaTemplate<>(producerFactory),
+                objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules()),
+                registry, maxInFlight, acquireTimeout);
+    }
+}
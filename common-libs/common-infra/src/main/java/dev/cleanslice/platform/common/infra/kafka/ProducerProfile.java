@@ -0,0 +1,37 @@
+package dev.cleanslice.platform.common.infra.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Map;
+
+/**
+ * Batching and compression presets for the event producer.
+ * Explicit {@code spring.kafka.producer.*} settings take precedence over the profile.
+ */
+public enum ProducerProfile {
+
+    /** Send as soon as possible; small, uncompressed batches. */
+    LOW_LATENCY(0, 16 * 1024, "none"),
+
+    /** A few milliseconds of linger buys much larger, compressed batches. */
+    BALANCED(5, 64 * 1024, "lz4"),
+
+    /** For bulk publishing where per-event latency does not matter. */
+    THROUGHPUT(50, 256 * 1024, "zstd");
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+
+    ProducerProfile(int lingerMs, int batchSize, String compressionType) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+    }
+
+    void applyTo(Map<String, Object> producerProperties) {
+        producerProperties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        producerProperties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        producerProperties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+    }
+}
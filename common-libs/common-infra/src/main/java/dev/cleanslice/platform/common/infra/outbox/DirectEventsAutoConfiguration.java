@@ -0,0 +1,23 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisher;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Fallback {@link OutboxWriter} for services that run with {@code outbox.enabled=false}:
+ * publishers keep their dependency on the writer and their events go straight to Kafka
+ * after commit, without the outbox table's delivery guarantee.
+ */
+@AutoConfiguration(after = OutboxAutoConfiguration.class)
+@ConditionalOnBean(KafkaEventPublisher.class)
+public class DirectEventsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxWriter.class)
+    public OutboxWriter directKafkaWriter(KafkaEventPublisher kafkaEventPublisher) {
+        return new DirectKafkaWriter(kafkaEventPublisher);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Outbox writer used when the outbox table is disabled: holds the caller's events in
+ * memory and publishes them to Kafka once the transaction commits. Events of a rolled-back
+ * transaction are still never sent, but events of a committed one are lost if the process
+ * stops or the send fails before Kafka acknowledges them.
+ */
+class DirectKafkaWriter implements OutboxWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectKafkaWriter.class);
+
+    private final KafkaEventPublisher publisher;
+
+    DirectKafkaWriter(KafkaEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void append(String topic, String key, Object event) {
+        appendAll(topic, List.of(new Message(key, event)));
+    }
+
+    @Override
+    public void appendAll(String topic, List<Message> messages) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be appended inside a transaction");
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Message> pending = List.copyOf(messages);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.forEach(message -> send(topic, message));
+            }
+        });
+    }
+
+    private void send(String topic, Message message) {
+        try {
+            publisher.publish(topic, message.key(), message.event())
+                    .whenComplete((result, failure) -> {
+                        if (failure != null) {
+                            log.error("Failed to publish event with key {} to {}", message.key(), topic, failure);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.error("Failed to publish event with key {} to {}", message.key(), topic, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisher;
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisherAutoConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Transactional outbox for services that publish domain events to Kafka.
+ * <p>
+ * Enabled with {@code outbox.enabled=true}. Publishers call {@link OutboxWriter#append}
+ * inside their use case transaction instead of sending to Kafka, so requests no longer
+ * wait on the producer and events are only emitted for committed changes. The outbox
+ * entity is registered with the application's persistence unit; services whose schema
+ * is not generated need the {@code outbox_events} table. Without the flag, publishers get
+ * the direct writer from {@link DirectEventsAutoConfiguration} instead.
+ */
+@AutoConfiguration(after = {HibernateJpaAutoConfiguration.class, KafkaEventPublisherAutoConfiguration.class})
+@ConditionalOnClass({KafkaTemplate.class, EntityManager.class})
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true")
+@AutoConfigurationPackage(basePackageClasses = OutboxEventEntity.class)
+public class OutboxAutoConfiguration {
+
+    @Bean
+    OutboxStore outboxStore(EntityManagerFactory entityManagerFactory) {
+        return new OutboxStore(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+    }
+
+    @Bean
+    OutboxRelay outboxRelay(OutboxStore outboxStore,
+                            KafkaEventPublisher kafkaEventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${outbox.relay.batch-size:100}") int batchSize,
+                            @Value("${outbox.relay.poll-interval:500ms}") Duration pollInterval,
+                            @Value("${outbox.relay.send-timeout:30s}") Duration sendTimeout) {
+        return new OutboxRelay(outboxStore, kafkaEventPublisher,
+                new TransactionTemplate(transactionManager), batchSize, pollInterval, sendTimeout);
+    }
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxStore outboxStore,
+                                     ObjectProvider<ObjectMapper> objectMapper,
+                                     OutboxRelay outboxRelay) {
+        return new TransactionalOutboxWriter(outboxStore,
+                objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules()), outboxRelay);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * An event written in the same transaction as the state change it describes,
+ * waiting to be relayed to Kafka. The identity column gives the relay order.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String topic;
+
+    @Column(nullable = false, length = 200)
+    private String messageKey;
+
+    @Column(nullable = false, length = 300)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,124 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the outbox to Kafka in batches, oldest first.
+ * <p>
+ * A batch is locked, sent without waiting between records, and deleted only once
+ * every record has been acknowledged, all in one transaction. A failed send rolls
+ * the batch back and it is retried as a whole, so delivery is at least once; the
+ * idempotent producer keeps same-key records in order within the batch.
+ * The stored JSON is sent as-is through the shared {@link KafkaEventPublisher}.
+ */
+@Slf4j
+class OutboxRelay implements SmartLifecycle {
+
+    private final OutboxStore store;
+    private final KafkaEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration sendTimeout;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    OutboxRelay(OutboxStore store, KafkaEventPublisher publisher,
+                TransactionTemplate transactionTemplate, int batchSize, Duration pollInterval, Duration sendTimeout) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox batch size must be positive");
+        }
+        this.store = store;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-"));
+        executor.scheduleWithFixedDelay(this::drain, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                // Let a batch in flight finish rather than be retried after restart
+                executor.awaitTermination(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Requests a drain as soon as possible; requests made while one is pending are coalesced.
+     */
+    synchronized void wakeUp() {
+        if (executor != null && wakeUpPending.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    void drain() {
+        wakeUpPending.set(false);
+        try {
+            while (relayBatch() == batchSize) {
+                // keep going while the backlog fills whole batches
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, retrying in {}", pollInterval, e);
+        }
+    }
+
+    /**
+     * @return number of events relayed
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            var events = store.lockOldest(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(events.size());
+            for (var event : events) {
+                sends.add(publisher.publish(event.getTopic(), event.getMessageKey(), event.getEventType(),
+                        event.getPayload().getBytes(StandardCharsets.UTF_8)));
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .orTimeout(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+
+            store.delete(events.stream().map(OutboxEventEntity::getId).toList());
+            return events.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Outbox table access through the shared, transaction-bound entity manager.
+ */
+class OutboxStore {
+
+    private final EntityManager entityManager;
+
+    OutboxStore(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    void save(OutboxEventEntity event) {
+        entityManager.persist(event);
+    }
+
+    /**
+     * Inserts the events as one JDBC batch on the transaction's connection. Identity ids rule out
+     * Hibernate's own insert batching, and the ids are not needed by writers.
+     */
+    void saveAll(List<OutboxEventEntity> events) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO outbox_events (topic, message_key, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?)")) {
+                for (OutboxEventEntity event : events) {
+                    statement.setString(1, event.getTopic());
+                    statement.setString(2, event.getMessageKey());
+                    statement.setString(3, event.getEventType());
+                    statement.setString(4, event.getPayload());
+                    statement.setTimestamp(5, Timestamp.from(event.getCreatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Locks the oldest pending events. Concurrent relays block on the lock instead of
+     * skipping ahead, which keeps delivery in order across instances.
+     */
+    List<OutboxEventEntity> lockOldest(int limit) {
+        return entityManager.createQuery("SELECT e FROM OutboxEventEntity e ORDER BY e.id", OutboxEventEntity.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    void delete(List<Long> ids) {
+        entityManager.createQuery("DELETE FROM OutboxEventEntity e WHERE e.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
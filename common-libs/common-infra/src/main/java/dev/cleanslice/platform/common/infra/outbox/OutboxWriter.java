@@ -0,0 +1,36 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import java.util.List;
+
+/**
+ * Queues events for Kafka as part of the caller's transaction.
+ * Nothing is sent until the transaction commits, and a rolled-back transaction
+ * takes its events with it.
+ * <p>
+ * With {@code outbox.enabled=true} events go through the outbox table and are delivered
+ * even if the service stops right after commit; otherwise they are sent straight to
+ * Kafka after commit, see {@link DirectEventsAutoConfiguration}.
+ */
+public interface OutboxWriter {
+
+    /**
+     * Appends an event for {@code topic}. Events with the same key are delivered in append order.
+     *
+     * @throws IllegalStateException if no transaction is active
+     */
+    void append(String topic, String key, Object event);
+
+    /**
+     * Appends many events for {@code topic}, in list order.
+     * Meant for bulk writers, where one write per event would dominate the transaction.
+     *
+     * @throws IllegalStateException if no transaction is active
+     */
+    void appendAll(String topic, List<Message> messages);
+
+    /**
+     * An event and its message key, for {@link #appendAll}.
+     */
+    record Message(String key, Object event) {
+    }
+}
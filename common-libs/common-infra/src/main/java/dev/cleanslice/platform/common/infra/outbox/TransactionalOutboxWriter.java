@@ -0,0 +1,84 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outbox writer that stores events in the outbox table as part of the caller's transaction.
+ * A rolled-back transaction takes its events with it, and committed events survive a crash
+ * until the relay has sent them. The relay is woken right after commit, so delivery
+ * latency does not depend on the poll interval.
+ */
+class TransactionalOutboxWriter implements OutboxWriter {
+
+    private final OutboxStore store;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay relay;
+
+    TransactionalOutboxWriter(OutboxStore store, ObjectMapper objectMapper, OutboxRelay relay) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    @Override
+    public void append(String topic, String key, Object event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be appended inside a transaction");
+        }
+
+        store.save(toEntity(topic, key, event, Instant.now()));
+        wakeRelayAfterCommit();
+    }
+
+    /**
+     * Writes all events with one batched insert.
+     */
+    @Override
+    public void appendAll(String topic, List<Message> messages) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be appended inside a transaction");
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        store.saveAll(messages.stream()
+                .map(message -> toEntity(topic, message.key(), message.event(), now))
+                .toList());
+        wakeRelayAfterCommit();
+    }
+
+    private OutboxEventEntity toEntity(String topic, String key, Object event, Instant createdAt) {
+        var entity = new OutboxEventEntity();
+        entity.setTopic(topic);
+        entity.setMessageKey(key);
+        entity.setEventType(event.getClass().getName());
+        entity.setPayload(toJson(event));
+        entity.setCreatedAt(createdAt);
+        return entity;
+    }
+
+    private void wakeRelayAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + event.getClass().getName(), e);
+        }
+    }
+}
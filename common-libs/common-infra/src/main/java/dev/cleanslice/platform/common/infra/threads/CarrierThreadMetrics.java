@@ -0,0 +1,76 @@
+package dev.cleanslice.platform.common.infra.threads;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics for the platform threads that carry virtual threads.
+ * <p>
+ * Java 21 has no management bean for the virtual-thread scheduler, so carriers
+ * are found by enumerating live threads. Utilization is busy carriers over
+ * parallelism, or the rate of carrier CPU time over parallelism.
+ */
+public class CarrierThreadMetrics implements MeterBinder {
+
+    private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jvm.threads.virtual.carriers.parallelism", CarrierThreadMetrics::parallelism)
+                .description("Target number of carrier threads for virtual threads")
+                .register(registry);
+
+        Gauge.builder("jvm.threads.virtual.carriers.live", this, metrics -> metrics.carriers().size())
+                .description("Carrier threads currently alive")
+                .register(registry);
+
+        Gauge.builder("jvm.threads.virtual.carriers.busy", this, CarrierThreadMetrics::busyCarriers)
+                .description("Carrier threads currently running a virtual thread")
+                .register(registry);
+
+        if (threadMXBean.isThreadCpuTimeSupported()) {
+            FunctionCounter.builder("jvm.threads.virtual.carriers.cpu", this, CarrierThreadMetrics::carrierCpuSeconds)
+                    .description("CPU time consumed by live carrier threads")
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+    }
+
+    static int parallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    private double busyCarriers() {
+        return carriers().stream().filter(thread -> thread.getState() == Thread.State.RUNNABLE).count();
+    }
+
+    private double carrierCpuSeconds() {
+        long nanos = carriers().stream()
+                .mapToLong(thread -> Math.max(threadMXBean.getThreadCpuTime(thread.threadId()), 0))
+                .sum();
+        return (double) nanos / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private List<Thread> carriers() {
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] threads = new Thread[root.activeCount() * 2];
+        int count = root.enumerate(threads, true);
+        return Arrays.stream(threads, 0, count)
+                .filter(thread -> CARRIER_THREAD_CLASS.equals(thread.getClass().getName()))
+                .toList();
+    }
+}
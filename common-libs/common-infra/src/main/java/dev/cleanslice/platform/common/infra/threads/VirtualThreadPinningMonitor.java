@@ -0,0 +1,90 @@
+package dev.cleanslice.platform.common.infra.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that pin their carrier, using the JFR
+ * {@code jdk.VirtualThreadPinned} event.
+ * <p>
+ * A pinned virtual thread blocks inside {@code synchronized} or native code and holds
+ * its carrier for the whole wait, which silently shrinks the carrier pool. Each event
+ * above the threshold is timed under {@code jvm.threads.virtual.pinned} and logged
+ * with the top of its stack so the offending lock can be found.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements MeterBinder, SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private volatile Timer pinnedTimer;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        var timer = pinnedTimer;
+        if (timer != null) {
+            timer.record(event.getDuration());
+        }
+        log.warn("Virtual thread pinned its carrier for {} ms at:\n{}",
+                event.getDuration().toMillis(), topFrames(event));
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t<no stack trace>";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::formatFrame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String formatFrame(RecordedFrame frame) {
+        var method = frame.getMethod();
+        return "\tat " + method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+}
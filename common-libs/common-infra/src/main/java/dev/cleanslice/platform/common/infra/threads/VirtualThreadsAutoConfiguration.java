@@ -0,0 +1,39 @@
+package dev.cleanslice.platform.common.infra.threads;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Observability for the virtual-thread execution mode.
+ * <p>
+ * Setting {@code spring.threads.virtual.enabled=true} makes Spring Boot run Tomcat
+ * request handling, {@code @KafkaListener} containers and its task executors on
+ * virtual threads. This configuration adds what Boot does not: detection of carrier
+ * pinning (e.g. {@code synchronized} sections in the JDBC path) and carrier-thread
+ * utilization metrics.
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnClass(MeterBinder.class)
+public class VirtualThreadsAutoConfiguration {
+
+    @Bean
+    public CarrierThreadMetrics carrierThreadMetrics() {
+        return new CarrierThreadMetrics();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+}
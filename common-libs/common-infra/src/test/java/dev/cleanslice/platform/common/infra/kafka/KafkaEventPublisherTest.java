@@ -0,0 +1,64 @@
+package dev.cleanslice.platform.common.infra.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaEventPublisherTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSendJsonWithTypeHeaderAndRecordOutcome() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        var publisher = new KafkaEventPublisher(kafkaTemplate, new ObjectMapper(), registry, 10, Duration.ofMillis(10));
+
+        publisher.publish("files.events.v1", "key-1", Map.of("n", 1));
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        var sent = captor.getValue();
+        assertThat(sent.key()).isEqualTo("key-1");
+        assertThat(new String(sent.value(), StandardCharsets.UTF_8)).isEqualTo("{\"n\":1}");
+        assertThat(new String(sent.headers().lastHeader("__TypeId__").value(), StandardCharsets.UTF_8))
+                .isEqualTo(Map.of("n", 1).getClass().getName());
+        assertThat(registry.get("events.publish").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRejectWhenInFlightLimitIsReachedAndRecoverOnAck() {
+        CompletableFuture<SendResult<String, byte[]>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(pending);
+        var publisher = new KafkaEventPublisher(kafkaTemplate, new ObjectMapper(), registry, 1, Duration.ofMillis(10));
+
+        publisher.publish("t", "k", "Type", new byte[0]);
+        assertThatThrownBy(() -> publisher.publish("t", "k", "Type", new byte[0]))
+                .isInstanceOf(IllegalStateException.class);
+
+        pending.completeExceptionally(new IllegalStateException("broker down"));
+        publisher.publish("t", "k", "Type", new byte[0]);
+
+        assertThat(registry.get("events.publish.rejected").counter().count()).isEqualTo(1);
+        assertThat(registry.get("events.publish").tag("outcome", "failure").timer().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,69 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisher;
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisherAutoConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectKafkaWriterTest {
+
+    private final KafkaEventPublisher publisher = mock(KafkaEventPublisher.class);
+    private final DirectKafkaWriter writer = new DirectKafkaWriter(publisher);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void shouldProvideWriterWhenOutboxIsDisabled() {
+        new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withConfiguration(AutoConfigurations.of(KafkaAutoConfiguration.class,
+                        KafkaEventPublisherAutoConfiguration.class, OutboxAutoConfiguration.class,
+                        DirectEventsAutoConfiguration.class))
+                .withPropertyValues("outbox.enabled=false")
+                .run(context -> assertThat(context).getBean(OutboxWriter.class).isInstanceOf(DirectKafkaWriter.class));
+    }
+
+    @Test
+    void shouldPublishOnlyAfterCommit() {
+        when(publisher.publish(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        writer.appendAll("products", List.of(new OutboxWriter.Message("a", "first"), new OutboxWriter.Message("b", "second")));
+
+        verify(publisher, never()).publish(anyString(), anyString(), any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(publisher).publish("products", "a", "first");
+        verify(publisher).publish("products", "b", "second");
+    }
+
+    @Test
+    void shouldRejectAppendOutsideTransaction() {
+        assertThatThrownBy(() -> writer.append("products", "a", "event")).isInstanceOf(IllegalStateException.class);
+    }
+}
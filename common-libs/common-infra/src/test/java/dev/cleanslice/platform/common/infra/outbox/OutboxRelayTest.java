@@ -0,0 +1,74 @@
+package dev.cleanslice.platform.common.infra.outbox;
+
+import dev.cleanslice.platform.common.infra.kafka.KafkaEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final OutboxStore store = mock(OutboxStore.class);
+    private final KafkaEventPublisher publisher = mock(KafkaEventPublisher.class);
+
+    private final OutboxRelay relay = new OutboxRelay(store, publisher,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), 10, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+    @Test
+    void shouldSendBatchInOrderAndThenDeleteIt() {
+        when(store.lockOldest(10)).thenReturn(List.of(event(1L, "a"), event(2L, "b")));
+        when(publisher.publish(anyString(), anyString(), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        InOrder order = inOrder(publisher, store);
+        order.verify(publisher).publish("files.events.v1", "a", "com.example.Event",
+                "{\"n\":1}".getBytes(StandardCharsets.UTF_8));
+        order.verify(publisher).publish("files.events.v1", "b", "com.example.Event",
+                "{\"n\":2}".getBytes(StandardCharsets.UTF_8));
+        order.verify(store).delete(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldKeepBatchWhenAnySendFails() {
+        when(store.lockOldest(10)).thenReturn(List.of(event(1L, "a"), event(2L, "b")));
+        when(publisher.publish(anyString(), eq("a"), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(publisher.publish(anyString(), eq("b"), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThatThrownBy(relay::relayBatch).hasRootCauseMessage("broker down");
+
+        verify(store, never()).delete(anyList());
+    }
+
+    private static OutboxEventEntity event(long id, String key) {
+        var event = new OutboxEventEntity();
+        event.setId(id);
+        event.setTopic("files.events.v1");
+        event.setMessageKey(key);
+        event.setEventType("com.example.Event");
+        event.setPayload("{\"n\":" + id + "}");
+        event.setCreatedAt(Instant.now());
+        return event;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.cleanslice.platform.common.infra.threads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CarrierThreadMetricsTest {
+
+    @Test
+    void shouldReportLiveCarrierWhileVirtualThreadRuns() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        new CarrierThreadMetrics().bindTo(registry);
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var virtualThread = Thread.ofVirtual().start(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        started.await();
+        assertThat(registry.get("jvm.threads.virtual.carriers.live").gauge().value()).isGreaterThanOrEqualTo(1);
+        assertThat(registry.get("jvm.threads.virtual.carriers.parallelism").gauge().value())
+                .isEqualTo(CarrierThreadMetrics.parallelism());
+
+        release.countDown();
+        virtualThread.join();
+    }
+}
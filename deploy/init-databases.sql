@@ -29,12 +29,57 @@ CREATE TABLE file_versions (
     content_type VARCHAR(100) NOT NULL,
     size BIGINT NOT NULL,
     storage_key VARCHAR(500) NOT NULL,
+    content_digest VARCHAR(64),
     created_at TIMESTAMP NOT NULL,
     created_by UUID NOT NULL,
-    UNIQUE(file_id, version_number)
+    CONSTRAINT uk_file_versions_file_version UNIQUE (file_id, version_number)
+);
+
+-- Create file_version_counters table (last allocated version number per file)
+CREATE TABLE file_version_counters (
+    file_id UUID PRIMARY KEY REFERENCES file_entries(id),
+    last_version INT NOT NULL
+);
+
+-- Create file_tags table
+CREATE TABLE file_tags (
+    file_id UUID NOT NULL REFERENCES file_entries(id),
+    tag VARCHAR(100) NOT NULL,
+    PRIMARY KEY (file_id, tag)
+);
+
+-- Create storage_blobs table (content-addressed storage reference counts)
+CREATE TABLE storage_blobs (
+    digest VARCHAR(64) PRIMARY KEY,
+    size BIGINT NOT NULL,
+    ref_count BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Create staged_uploads table (storage objects written before their metadata commits)
+CREATE TABLE staged_uploads (
+    id UUID PRIMARY KEY,
+    storage_key VARCHAR(500) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Create outbox_events table (domain events awaiting relay to Kafka)
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(200) NOT NULL,
+    message_key VARCHAR(200) NOT NULL,
+    event_type VARCHAR(300) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
 );
 
 -- Create indexes
-CREATE INDEX idx_file_entries_owner_id ON file_entries(owner_id);
+-- Serves keyset pagination of owner listings (ORDER BY updated_at DESC, id DESC)
+CREATE INDEX idx_file_entries_owner_updated ON file_entries(owner_id, updated_at DESC, id DESC);
 CREATE INDEX idx_file_entries_owner_name ON file_entries(owner_id, name);
-CREATE INDEX idx_file_versions_file_id ON file_versions(file_id);
+CREATE INDEX idx_file_tags_tag ON file_tags(tag, file_id);
+CREATE INDEX idx_staged_uploads_created_at ON staged_uploads(created_at);
+
+-- Trigram index for case-insensitive prefix and substring search on file names
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_file_entries_name_trgm ON file_entries USING gin (lower(name) gin_trgm_ops);
@@ -26,8 +26,8 @@ Start-Sleep -Seconds 3
 Write-Host "Recreating topics..." -ForegroundColor Green
 
 # Recreate topics
-docker exec deploy-kafka-1 kafka-topics --bootstrap-server localhost:9092 --create --topic products.events.v1 --partitions 1 --replication-factor 1
-docker exec deploy-kafka-1 kafka-topics --bootstrap-server localhost:9092 --create --topic files.events.v1 --partitions 1 --replication-factor 1
+docker exec deploy-kafka-1 kafka-topics --bootstrap-server localhost:9092 --create --topic products.events.v1 --partitions 6 --replication-factor 1
+docker exec deploy-kafka-1 kafka-topics --bootstrap-server localhost:9092 --create --topic files.events.v1 --partitions 6 --replication-factor 1
 
 Write-Host ""
 Write-Host "Kafka topics reset successfully!" -ForegroundColor Green
@@ -1,29 +1,90 @@
 package dev.cleanslice.platform.audit.adapters.in.kafka;
 
 import dev.cleanslice.platform.audit.domain.AuditLog;
-import dev.cleanslice.platform.audit.adapters.out.jpa.AuditLogRepository;
+import dev.cleanslice.platform.audit.adapters.out.jpa.AuditLogBatchWriter;
+import dev.cleanslice.platform.common.events.FileDeletedEvent;
 import dev.cleanslice.platform.common.events.FileUploadedEvent;
+import dev.cleanslice.platform.common.events.FileVersionUploadedEvent;
 import dev.cleanslice.platform.common.events.ProductCreatedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Audit ingest. There is one listener per topic, so every partition of a topic is
+ * consumed by the same group member; records are dispatched to a typed handler by
+ * their {@code __TypeId__} header. Listeners receive a whole poll at a time (see
+ * {@code spring.kafka.listener.type}) and persist it with one batch insert; offsets
+ * are committed once the batch is stored. Listener concurrency should match the
+ * topic's partition count.
+ */
 @Component
 public class AuditEventConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(AuditEventConsumer.class);
-    private final AuditLogRepository auditLogRepository;
 
-    public AuditEventConsumer(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    private final AuditLogBatchWriter auditLogWriter;
+    private final Map<String, Function<Object, AuditLog>> handlers = Map.of(
+            FileUploadedEvent.class.getName(), handler(FileUploadedEvent.class, AuditEventConsumer::fileUploaded),
+            FileVersionUploadedEvent.class.getName(),
+            handler(FileVersionUploadedEvent.class, AuditEventConsumer::fileVersionUploaded),
+            FileDeletedEvent.class.getName(), handler(FileDeletedEvent.class, AuditEventConsumer::fileDeleted),
+            ProductCreatedEvent.class.getName(), handler(ProductCreatedEvent.class, AuditEventConsumer::productCreated));
+
+    public AuditEventConsumer(AuditLogBatchWriter auditLogWriter) {
+        this.auditLogWriter = auditLogWriter;
+    }
+
+    @KafkaListener(topics = "files.events.v1", groupId = "audit-service",
+                   concurrency = "${audit.consumer.files.concurrency:6}")
+    public void consumeFileEvents(List<ConsumerRecord<String, Object>> records) {
+        persist(records);
+    }
+
+    @KafkaListener(topics = "products.events.v1", groupId = "audit-service",
+                   concurrency = "${audit.consumer.products.concurrency:6}")
+    public void consumeProductEvents(List<ConsumerRecord<String, Object>> records) {
+        persist(records);
+    }
+
+    private void persist(List<ConsumerRecord<String, Object>> records) {
+        List<AuditLog> auditLogs = new ArrayList<>(records.size());
+        for (var rec : records) {
+            var handler = handlers.get(typeId(rec));
+            // Records that failed to deserialize arrive with a null value
+            if (handler == null || rec.value() == null) {
+                log.warn("Skipping unhandled record {}-{}@{} of type {}",
+                        rec.topic(), rec.partition(), rec.offset(), typeId(rec));
+                continue;
+            }
+            auditLogs.add(handler.apply(rec.value()));
+        }
+
+        auditLogWriter.insertAll(auditLogs);
+        log.info("Saved {} audit logs from {} records", auditLogs.size(), records.size());
+    }
+
+    private static String typeId(ConsumerRecord<String, Object> rec) {
+        var header = rec.headers().lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static <E> Function<Object, AuditLog> handler(Class<E> type, Function<E, AuditLog> toAuditLog) {
+        return value -> toAuditLog.apply(type.cast(value));
     }
 
-    @KafkaListener(topics = "files.events.v1", groupId = "audit-service")
-    public void consumeFileEvent(FileUploadedEvent event) {
-        log.info("Received file event: FileUploadedEvent for file: {}", event.getFileId());
-        
-        var auditLog = new AuditLog(
+    private static AuditLog fileUploaded(FileUploadedEvent event) {
+        return new AuditLog(
                 "FileUploadedEvent",
                 event.getFileId(),
                 "FILE",
@@ -32,32 +93,35 @@ public class AuditEventConsumer {
                 String.format("File uploaded: size=%d, contentType=%s", event.getSize(), event.getContentType()),
                 event.getOccurredAt()
         );
-        
-        auditLogRepository.save(auditLog);
-        log.info("Audit log saved for file: {}", event.getFileId());
     }
 
-    @KafkaListener(topics = "files.events.v1", groupId = "audit-service")
-    public void consumeFileDeletedEvent(dev.cleanslice.platform.common.events.FileDeletedEvent event) {
-        log.info("Received file event: FileDeletedEvent for file: {}", event.getFileId());
-        var auditLog = new AuditLog(
+    private static AuditLog fileVersionUploaded(FileVersionUploadedEvent event) {
+        return new AuditLog(
+                "FileVersionUploadedEvent",
+                event.getFileId(),
+                "FILE",
+                event.getOwnerId(),
+                "FILE_VERSION_UPLOADED",
+                String.format("File version uploaded: version=%d, name=%s, size=%d, contentType=%s",
+                        event.getVersionNumber(), event.getFilename(), event.getSize(), event.getContentType()),
+                event.getOccurredAt()
+        );
+    }
+
+    private static AuditLog fileDeleted(FileDeletedEvent event) {
+        return new AuditLog(
                 "FileDeletedEvent",
                 event.getFileId(),
                 "FILE",
                 null,
                 "FILE_DELETED",
                 String.format("File deleted: reason=%s", event.getReason()),
-                java.time.Instant.now()
+                Instant.now()
         );
-        auditLogRepository.save(auditLog);
-        log.info("Audit log saved for deleted file: {}", event.getFileId());
     }
 
-    @KafkaListener(topics = "products.events.v1", groupId = "audit-service")
-    public void consumeProductEvent(ProductCreatedEvent event) {
-        log.info("Received product event: ProductCreatedEvent for product: {}", event.getProductId());
-        
-        var auditLog = new AuditLog(
+    private static AuditLog productCreated(ProductCreatedEvent event) {
+        return new AuditLog(
                 "ProductCreatedEvent",
                 event.getProductId(),
                 "PRODUCT",
@@ -66,8 +130,5 @@ public class AuditEventConsumer {
                 String.format("Product created: name=%s", event.getName()),
                 event.getOccurredAt()
         );
-        
-        auditLogRepository.save(auditLog);
-        log.info("Audit log saved for product: {}", event.getProductId());
     }
 }
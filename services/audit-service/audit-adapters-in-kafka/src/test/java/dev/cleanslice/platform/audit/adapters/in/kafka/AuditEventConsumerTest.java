@@ -0,0 +1,53 @@
+package dev.cleanslice.platform.audit.adapters.in.kafka;
+
+import dev.cleanslice.platform.audit.adapters.out.jpa.AuditLogBatchWriter;
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import dev.cleanslice.platform.common.events.FileDeletedEvent;
+import dev.cleanslice.platform.common.events.FileUploadedEvent;
+import dev.cleanslice.platform.common.events.FileVersionUploadedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AuditEventConsumerTest {
+
+    private final AuditLogBatchWriter writer = mock(AuditLogBatchWriter.class);
+    private final AuditEventConsumer consumer = new AuditEventConsumer(writer);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDispatchEachRecordByTypeHeaderAndStoreBatchWithOneInsert() {
+        var uploaded = new FileUploadedEvent(UUID.randomUUID(), UUID.randomUUID(), null, 10, "text/plain");
+        var version = new FileVersionUploadedEvent(UUID.randomUUID(), UUID.randomUUID(), 2, UUID.randomUUID(),
+                "a.txt", "text/plain", 20);
+        var deleted = new FileDeletedEvent(UUID.randomUUID(), "deleted-by-user");
+
+        consumer.consumeFileEvents(List.of(
+                rec(0, uploaded, FileUploadedEvent.class.getName()),
+                rec(1, version, FileVersionUploadedEvent.class.getName()),
+                rec(2, null, FileUploadedEvent.class.getName()),   // failed deserialization
+                rec(3, deleted, FileDeletedEvent.class.getName()),
+                rec(4, "unknown", "com.example.Unknown")));
+
+        ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AuditLog::getAction)
+                .containsExactly("FILE_UPLOADED", "FILE_VERSION_UPLOADED", "FILE_DELETED");
+        assertThat(captor.getValue()).extracting(AuditLog::getResourceId)
+                .containsExactly(uploaded.getFileId(), version.getFileId(), deleted.getFileId());
+    }
+
+    private static ConsumerRecord<String, Object> rec(long offset, Object value, String typeId) {
+        var rec = new ConsumerRecord<String, Object>("files.events.v1", 0, offset, "key", value);
+        rec.headers().add("__TypeId__", typeId.getBytes(StandardCharsets.UTF_8));
+        return rec;
+    }
+}
@@ -1,29 +1,116 @@
 package dev.cleanslice.platform.audit.adapters.in.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.cleanslice.platform.audit.application.port.AuditLogQuery;
+import dev.cleanslice.platform.audit.application.usecase.ExportAuditLogsUseCase;
+import dev.cleanslice.platform.audit.application.usecase.SearchAuditLogsUseCase;
 import dev.cleanslice.platform.audit.domain.AuditLog;
-import dev.cleanslice.platform.audit.adapters.out.jpa.AuditLogRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/audit")
 @Tag(name = "Audit", description = "Audit logs API")
 public class AuditController {
 
-    private final AuditLogRepository auditLogRepository;
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
 
-    public AuditController(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    private final SearchAuditLogsUseCase searchAuditLogsUseCase;
+    private final ExportAuditLogsUseCase exportAuditLogsUseCase;
+    private final ObjectMapper objectMapper;
+
+    public AuditController(SearchAuditLogsUseCase searchAuditLogsUseCase,
+                           ExportAuditLogsUseCase exportAuditLogsUseCase,
+                           ObjectMapper objectMapper) {
+        this.searchAuditLogsUseCase = searchAuditLogsUseCase;
+        this.exportAuditLogsUseCase = exportAuditLogsUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/logs")
-    @Operation(summary = "Get all audit logs")
-    public ResponseEntity<List<AuditLog>> getAllAuditLogs() {
-        var logs = auditLogRepository.findAll();
-        return ResponseEntity.ok(logs);
+    @Operation(summary = "Search audit logs, most recent first, one page at a time; archived=true scans archived months")
+    public ResponseEntity<AuditLogPageResponse> searchAuditLogs(
+            @RequestParam(required = false) UUID resourceId,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) UUID actorId,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean archived) {
+        try {
+            var query = new AuditLogQuery(resourceId, resourceType, actorId, eventType, from, to);
+            var page = searchAuditLogsUseCase.execute(query, cursor, limit, archived);
+            return ResponseEntity.ok(new AuditLogPageResponse(page.items(),
+                    page.hasNext() ? page.nextCursor().encode() : null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/logs/export")
+    @Operation(summary = "Stream all matching audit logs as NDJSON or CSV, most recent first; archived=true scans archived months")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(required = false) UUID resourceId,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) UUID actorId,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean archived) {
+        AuditLogQuery query;
+        boolean csv;
+        try {
+            query = new AuditLogQuery(resourceId, resourceType, actorId, eventType, from, to);
+            csv = switch (format.toLowerCase()) {
+                case "csv" -> true;
+                case "ndjson" -> false;
+                default -> throw new IllegalArgumentException("Unsupported export format: " + format);
+            };
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (csv) {
+                writer.write(AuditLogCsv.HEADER);
+            }
+            exportAuditLogsUseCase.execute(query, archived, auditLog -> {
+                try {
+                    writer.write(csv ? AuditLogCsv.toLine(auditLog) : toJsonLine(auditLog));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header("Content-Disposition", "attachment; filename=\"audit-logs." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    private String toJsonLine(AuditLog auditLog) throws IOException {
+        return objectMapper.writeValueAsString(auditLog) + "\n";
+    }
+
+    public record AuditLogPageResponse(List<AuditLog> items, String nextCursor) {
     }
 }
@@ -0,0 +1,34 @@
+package dev.cleanslice.platform.audit.adapters.in.rest;
+
+import dev.cleanslice.platform.audit.domain.AuditLog;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * RFC 4180 rendering of audit logs for CSV exports.
+ */
+final class AuditLogCsv {
+
+    static final String HEADER =
+            "id,event_type,resource_id,resource_type,actor_id,action,details,occurred_at,created_at\r\n";
+
+    private AuditLogCsv() {
+    }
+
+    static String toLine(AuditLog auditLog) {
+        return Stream.of(auditLog.getId(), auditLog.getEventType(), auditLog.getResourceId(),
+                        auditLog.getResourceType(), auditLog.getActorId(), auditLog.getAction(),
+                        auditLog.getDetails(), auditLog.getOccurredAt(), auditLog.getCreatedAt())
+                .map(value -> escape(Objects.toString(value, "")))
+                .collect(Collectors.joining(",", "", "\r\n"));
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
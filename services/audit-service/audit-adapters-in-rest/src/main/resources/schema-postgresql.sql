@@ -0,0 +1,51 @@
+-- Audit log storage: append-only time series, range partitioned by occurred_at.
+-- Monthly partitions are created ahead of time and dropped after the retention
+-- period by AuditPartitionManager. Rows outside every monthly partition land in
+-- audit_logs_default and are moved out when their month's partition is created.
+-- Runs on every startup and must stay idempotent.
+
+-- A table created by earlier versions is kept as audit_logs_legacy
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+               WHERE c.relname = 'audit_logs' AND n.nspname = current_schema() AND c.relkind = 'r') THEN
+        ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+        ALTER TABLE audit_logs_legacy RENAME CONSTRAINT audit_logs_pkey TO audit_logs_legacy_pkey;
+    END IF;
+END $$;
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    resource_id UUID NOT NULL,
+    resource_type VARCHAR(255),
+    actor_id UUID,
+    action VARCHAR(1000),
+    details VARCHAR(4000),
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_resource ON audit_logs (resource_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_actor ON audit_logs (actor_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_occurred ON audit_logs (occurred_at, id);
+
+CREATE TABLE IF NOT EXISTS audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Legacy rows become one partition ending at the current month; newer rows are
+-- moved into the partitioned table first. Drop audit_logs_legacy once it is past retention.
+DO $$
+DECLARE
+    bound TIMESTAMPTZ := date_trunc('month', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC';
+BEGIN
+    IF to_regclass('audit_logs_legacy') IS NOT NULL
+            AND NOT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = 'audit_logs_legacy'::regclass) THEN
+        INSERT INTO audit_logs (id, event_type, resource_id, resource_type, actor_id, action, details, occurred_at, created_at)
+            SELECT id, event_type, resource_id, resource_type, actor_id, action, details, occurred_at, created_at
+            FROM audit_logs_legacy WHERE occurred_at >= bound;
+        DELETE FROM audit_logs_legacy WHERE occurred_at >= bound;
+        ALTER TABLE audit_logs_legacy DROP CONSTRAINT audit_logs_legacy_pkey;
+        EXECUTE format('ALTER TABLE audit_logs ATTACH PARTITION audit_logs_legacy FOR VALUES FROM (MINVALUE) TO (%L)', bound);
+    END IF;
+END $$;
@@ -0,0 +1,62 @@
+package dev.cleanslice.platform.audit.adapters.out.jpa;
+
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import dev.cleanslice.platform.audit.domain.UuidV7;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Bulk insert path for audit logs.
+ * <p>
+ * Ingest bypasses the persistence context: missing ids are assigned here and the rows go out
+ * as one JDBC batch in one transaction. With {@code reWriteBatchedInserts=true} on the
+ * PostgreSQL URL the driver folds the batch into multi-row INSERTs.
+ */
+@Repository
+public class AuditLogBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs
+                (id, event_type, resource_id, resource_type, actor_id, action, details, occurred_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public void insertAll(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        for (var auditLog : auditLogs) {
+            if (auditLog.getId() == null) {
+                auditLog.setId(UuidV7.generate());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, auditLogs, auditLogs.size(), (ps, auditLog) -> {
+            ps.setObject(1, auditLog.getId());
+            ps.setString(2, auditLog.getEventType());
+            ps.setObject(3, auditLog.getResourceId());
+            ps.setString(4, auditLog.getResourceType());
+            ps.setObject(5, auditLog.getActorId());
+            ps.setString(6, auditLog.getAction());
+            ps.setString(7, auditLog.getDetails());
+            ps.setObject(8, toUtc(auditLog.getOccurredAt()));
+            ps.setObject(9, toUtc(auditLog.getCreatedAt()));
+        });
+    }
+
+    private static OffsetDateTime toUtc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.cleanslice.platform.audit.adapters.out.jpa;
+
+import dev.cleanslice.platform.audit.application.port.AuditLogCursor;
+import dev.cleanslice.platform.audit.application.port.AuditLogQuery;
+import dev.cleanslice.platform.audit.application.port.AuditLogQueryPort;
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing AuditLogQueryPort with plain SQL.
+ * <p>
+ * Only the filters that are set become predicates, so each combination can use its own
+ * index ({@code resource_id}, {@code actor_id} or {@code occurred_at}), and a time range
+ * prunes the monthly partitions that cannot match. Pages continue with a row-value
+ * comparison on {@code (occurred_at, id)} rather than an offset.
+ */
+@Component
+public class AuditLogQueryAdapter implements AuditLogQueryPort {
+
+    static final String COLUMNS =
+            "id, event_type, resource_id, resource_type, actor_id, action, details, occurred_at, created_at";
+    private static final String SELECT_SQL = "SELECT " + COLUMNS + " FROM audit_logs";
+
+    static final RowMapper<AuditLog> ROW_MAPPER = (rs, rowNum) -> {
+        var auditLog = new AuditLog();
+        auditLog.setId(rs.getObject("id", UUID.class));
+        auditLog.setEventType(rs.getString("event_type"));
+        auditLog.setResourceId(rs.getObject("resource_id", UUID.class));
+        auditLog.setResourceType(rs.getString("resource_type"));
+        auditLog.setActorId(rs.getObject("actor_id", UUID.class));
+        auditLog.setAction(rs.getString("action"));
+        auditLog.setDetails(rs.getString("details"));
+        auditLog.setOccurredAt(rs.getObject("occurred_at", OffsetDateTime.class).toInstant());
+        auditLog.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        return auditLog;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<AuditLog> find(AuditLogQuery query, AuditLogCursor after, int limit) {
+        var predicates = new ArrayList<String>();
+        var args = new ArrayList<>();
+
+        if (query.resourceId() != null) {
+            predicates.add("resource_id = ?");
+            args.add(query.resourceId());
+        }
+        if (query.resourceType() != null) {
+            predicates.add("resource_type = ?");
+            args.add(query.resourceType());
+        }
+        if (query.actorId() != null) {
+            predicates.add("actor_id = ?");
+            args.add(query.actorId());
+        }
+        if (query.eventType() != null) {
+            predicates.add("event_type = ?");
+            args.add(query.eventType());
+        }
+        if (query.from() != null) {
+            predicates.add("occurred_at >= ?");
+            args.add(toUtc(query.from()));
+        }
+        if (query.to() != null) {
+            predicates.add("occurred_at < ?");
+            args.add(toUtc(query.to()));
+        }
+        if (after != null) {
+            predicates.add("(occurred_at, id) < (?, ?)");
+            args.add(toUtc(after.occurredAt()));
+            args.add(after.id());
+        }
+
+        var sql = new StringBuilder(SELECT_SQL);
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        sql.append(" ORDER BY occurred_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    private static OffsetDateTime toUtc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
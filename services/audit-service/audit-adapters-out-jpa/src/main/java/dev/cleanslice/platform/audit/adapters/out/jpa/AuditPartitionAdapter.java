@@ -0,0 +1,80 @@
+package dev.cleanslice.platform.audit.adapters.out.jpa;
+
+import dev.cleanslice.platform.audit.application.port.AuditPartitionPort;
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Adapter implementing AuditPartitionPort on the PostgreSQL partitions of {@code audit_logs}.
+ * <p>
+ * Partitions are read with a server-side cursor (a fetch size inside a read-only
+ * transaction), so a whole month is streamed without being loaded into memory.
+ */
+@Component
+public class AuditPartitionAdapter implements AuditPartitionPort {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuditPartitionAdapter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(AuditPartitionManager.LIST_PARTITIONS_SQL, String.class).stream()
+                .map(AuditPartitionManager::parseMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public long read(YearMonth month, Consumer<AuditLog> sink) {
+        String sql = "SELECT " + AuditLogQueryAdapter.COLUMNS + " FROM " + partitionName(month)
+                + " ORDER BY occurred_at DESC, id DESC";
+        var count = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(sql, rs -> {
+            sink.accept(AuditLogQueryAdapter.ROW_MAPPER.mapRow(rs, 0));
+            count.incrementAndGet();
+        }));
+        return count.get();
+    }
+
+    @Override
+    public boolean dropIfUnchanged(YearMonth month, long expectedRows) {
+        String partition = partitionName(month);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            // Blocks writers to the partition until the drop commits
+            jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+            Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition, Long.class);
+            if (rows == null || rows != expectedRows) {
+                return false;
+            }
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return true;
+        }));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return AuditPartitionManager.partitionName(month);
+    }
+}
@@ -0,0 +1,152 @@
+package dev.cleanslice.platform.audit.adapters.out.jpa;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the monthly partitions of {@code audit_logs} in place.
+ * <p>
+ * Partitions are created for the current month and {@code audit.partitions.months-ahead}
+ * months after it, and dropped once they are older than {@code audit.partitions.retention-months}.
+ * Dropping a partition is a metadata operation, so retention never deletes rows one by one.
+ * Rows that reached the default partition before their month existed are moved into the
+ * new partition when it is created. PostgreSQL only; the table itself is declared in
+ * {@code schema-postgresql.sql}.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.partitions.enabled", havingValue = "true")
+public class AuditPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+    static final String PARENT_TABLE = "audit_logs";
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'audit_logs_p'yyyy_MM");
+
+    static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'audit_logs'::regclass""";
+    private static final String MOVE_FROM_DEFAULT_SQL = """
+            WITH moved AS (
+                DELETE FROM audit_logs_default WHERE occurred_at >= ? AND occurred_at < ? RETURNING *
+            )
+            INSERT INTO audit_logs_moving SELECT * FROM moved""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Clock clock;
+
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${audit.partitions.months-ahead:3}") int monthsAhead,
+                                 @Value("${audit.partitions.retention-months:13}") int retentionMonths) {
+        this(jdbcTemplate, transactionManager, monthsAhead, retentionMonths, Clock.systemUTC());
+    }
+
+    AuditPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          int monthsAhead, int retentionMonths, Clock clock) {
+        if (monthsAhead < 0 || retentionMonths < 1) {
+            throw new IllegalArgumentException("Months ahead must not be negative and retention must be at least one month");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${audit.partitions.cron:0 0 3 * * *}", zone = "UTC")
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock);
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class));
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(partitionName(month))) {
+                createPartition(month);
+            }
+        }
+        for (String partition : expiredPartitions(existing, current.minusMonths(retentionMonths))) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+            log.info("Dropped expired audit log partition {}", partition);
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        OffsetDateTime from = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = from.plusMonths(1);
+
+        Integer moved = transactionTemplate.execute(status -> {
+            // Serializes maintenance across instances and keeps new rows out of the default
+            // partition until the month's partition exists
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext('" + PARENT_TABLE + "'))", Object.class);
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN SHARE ROW EXCLUSIVE MODE");
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name)) {
+                return 0;
+            }
+
+            jdbcTemplate.execute("CREATE TEMP TABLE audit_logs_moving (LIKE audit_logs) ON COMMIT DROP");
+            int rows = jdbcTemplate.update(MOVE_FROM_DEFAULT_SQL, from, to);
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF " + PARENT_TABLE
+                    + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            if (rows > 0) {
+                jdbcTemplate.update("INSERT INTO audit_logs SELECT * FROM audit_logs_moving");
+            }
+            return rows;
+        });
+        log.info("Created audit log partition {} ({} rows moved from the default partition)", name, moved);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_NAME.format(month);
+    }
+
+    /**
+     * Returns the monthly partitions covering months before {@code oldestKept}.
+     * Other tables attached to the parent (default, legacy) are never selected.
+     */
+    static List<String> expiredPartitions(Collection<String> partitions, YearMonth oldestKept) {
+        return partitions.stream()
+                .filter(name -> {
+                    YearMonth month = parseMonth(name);
+                    return month != null && month.isBefore(oldestKept);
+                })
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Returns the month of a monthly partition, or null for any other table.
+     */
+    static YearMonth parseMonth(String partition) {
+        try {
+            return YearMonth.parse(partition, PARTITION_NAME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.cleanslice.platform.audit.adapters.out.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AuditPartitionManagerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void shouldSelectOnlyMonthlyPartitionsBeforeRetentionBoundary() {
+        var expired = AuditPartitionManager.expiredPartitions(
+                List.of("audit_logs_p2025_09", "audit_logs_p2025_08", "audit_logs_default",
+                        "audit_logs_legacy", "audit_logs_p2025_10"),
+                YearMonth.of(2025, 10));
+
+        assertThat(expired).containsExactly("audit_logs_p2025_08", "audit_logs_p2025_09");
+    }
+
+    @Test
+    void shouldDropExpiredPartitionsWhenUpcomingOnesExist() {
+        var manager = new AuditPartitionManager(jdbcTemplate, transactionManager, 1, 13,
+                Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "audit_logs_default", "audit_logs_p2025_08", "audit_logs_p2025_09",
+                "audit_logs_p2026_10", "audit_logs_p2026_11"));
+
+        manager.maintain();
+
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS audit_logs_p2025_08");
+        verifyNoInteractions(transactionManager);
+    }
+}
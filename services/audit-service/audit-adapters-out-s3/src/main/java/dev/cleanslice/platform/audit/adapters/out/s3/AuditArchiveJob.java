@@ -0,0 +1,32 @@
+package dev.cleanslice.platform.audit.adapters.out.s3;
+
+import dev.cleanslice.platform.audit.application.usecase.ArchiveAuditPartitionsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically moves cold audit partitions from the database to the archive.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.archive.enabled", havingValue = "true")
+public class AuditArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditArchiveJob.class);
+
+    private final ArchiveAuditPartitionsUseCase archiveAuditPartitionsUseCase;
+
+    public AuditArchiveJob(ArchiveAuditPartitionsUseCase archiveAuditPartitionsUseCase) {
+        this.archiveAuditPartitionsUseCase = archiveAuditPartitionsUseCase;
+    }
+
+    @Scheduled(cron = "${audit.archive.cron:0 30 3 * * *}", zone = "UTC")
+    void archive() {
+        int archived = archiveAuditPartitionsUseCase.execute();
+        if (archived > 0) {
+            log.info("Archived {} audit log partitions", archived);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package dev.cleanslice.platform.audit.adapters.out.s3;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.cleanslice.platform.audit.application.port.AuditArchivePort;
+import dev.cleanslice.platform.audit.application.port.AuditLogCursor;
+import dev.cleanslice.platform.audit.application.port.AuditLogQuery;
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Adapter implementing AuditArchivePort on S3/MinIO.
+ * <p>
+ * Each archived month is one gzip-compressed NDJSON object, {@code audit-logs/yyyy/MM.ndjson.gz},
+ * holding the month's logs in query order ({@code occurredAt DESC, id DESC}). Scans only open
+ * the months that overlap the query's time range and cursor, newest first, and stop reading as
+ * soon as the page is full; exports read each of those months once, start to end. Archives
+ * are written to a local temporary file first so the upload has a known length.
+ */
+@Component
+public class S3AuditArchiveAdapter implements AuditArchivePort {
+
+    private static final String KEY_PREFIX = "audit-logs/";
+    private static final String KEY_SUFFIX = ".ndjson.gz";
+    private static final DateTimeFormatter MONTH_PATH = DateTimeFormatter.ofPattern("yyyy/MM");
+    private static final String ROWS_METADATA = "rows";
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final ObjectMapper objectMapper;
+    private volatile boolean bucketChecked;
+
+    @Autowired
+    public S3AuditArchiveAdapter(@Value("${audit.archive.s3.endpoint}") String endpoint,
+                                 @Value("${audit.archive.s3.access-key}") String accessKey,
+                                 @Value("${audit.archive.s3.secret-key}") String secretKey,
+                                 @Value("${audit.archive.s3.bucket}") String bucketName,
+                                 @Value("${audit.archive.s3.region}") String region,
+                                 ObjectMapper objectMapper) {
+        this(S3Client.builder()
+                        .endpointOverride(URI.create(endpoint))
+                        .region(Region.of(region))
+                        .credentialsProvider(StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)))
+                        .forcePathStyle(true)
+                        .build(),
+                bucketName, objectMapper);
+    }
+
+    S3AuditArchiveAdapter(S3Client s3Client, String bucketName, ObjectMapper objectMapper) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.objectMapper = objectMapper;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        s3Client.close();
+    }
+
+    @Override
+    public long store(YearMonth month, AuditLogSource source) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("audit-archive-", KEY_SUFFIX);
+            long rows = writeArchive(file, source);
+
+            createBucketIfNotExists();
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key(month))
+                            .contentType("application/x-ndjson")
+                            .contentEncoding("gzip")
+                            .metadata(Map.of(ROWS_METADATA, Long.toString(rows)))
+                            .build(),
+                    RequestBody.fromFile(file));
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write audit archive for " + month, e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private long writeArchive(Path file, AuditLogSource source) throws IOException {
+        long[] rows = {0};
+        try (var writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+            source.forEach(auditLog -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(auditLog));
+                    writer.newLine();
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return rows[0];
+    }
+
+    @Override
+    public List<AuditLog> scan(AuditLogQuery query, AuditLogCursor after, int limit) {
+        var result = new ArrayList<AuditLog>(Math.min(limit, 1000));
+        read(query, after, auditLog -> {
+            result.add(auditLog);
+            return result.size() < limit;
+        });
+        return result;
+    }
+
+    @Override
+    public long export(AuditLogQuery query, Consumer<AuditLog> sink) {
+        long[] exported = {0};
+        read(query, null, auditLog -> {
+            sink.accept(auditLog);
+            exported[0]++;
+            return true;
+        });
+        return exported[0];
+    }
+
+    /**
+     * Streams the matches after the cursor, newest first, to {@code sink} until it returns false.
+     */
+    private void read(AuditLogQuery query, AuditLogCursor after, Predicate<AuditLog> sink) {
+        for (YearMonth month : candidateMonths(archivedMonths(), query, after)) {
+            try (var reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(s3Client.getObject(b -> b.bucket(bucketName).key(key(month)))),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    var auditLog = objectMapper.readValue(line, AuditLog.class);
+                    if (matches(auditLog, query) && isAfter(auditLog, after) && !sink.test(auditLog)) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read audit archive for " + month, e);
+            }
+        }
+    }
+
+    private List<YearMonth> archivedMonths() {
+        try {
+            return s3Client.listObjectsV2Paginator(b -> b.bucket(bucketName).prefix(KEY_PREFIX)).contents().stream()
+                    .map(S3Object::key)
+                    .map(S3AuditArchiveAdapter::parseMonth)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (NoSuchBucketException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Returns the archived months that can hold matches, newest first.
+     */
+    static List<YearMonth> candidateMonths(List<YearMonth> archived, AuditLogQuery query, AuditLogCursor after) {
+        YearMonth last = after == null ? null : YearMonth.from(after.occurredAt().atOffset(ZoneOffset.UTC));
+        return archived.stream()
+                .filter(month -> query.from() == null || end(month).isAfter(query.from()))
+                .filter(month -> query.to() == null || start(month).isBefore(query.to()))
+                .filter(month -> last == null || !month.isAfter(last))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+    }
+
+    static boolean matches(AuditLog auditLog, AuditLogQuery query) {
+        return (query.resourceId() == null || query.resourceId().equals(auditLog.getResourceId()))
+                && (query.resourceType() == null || query.resourceType().equals(auditLog.getResourceType()))
+                && (query.actorId() == null || query.actorId().equals(auditLog.getActorId()))
+                && (query.eventType() == null || query.eventType().equals(auditLog.getEventType()))
+                && (query.from() == null || !auditLog.getOccurredAt().isBefore(query.from()))
+                && (query.to() == null || auditLog.getOccurredAt().isBefore(query.to()));
+    }
+
+    /**
+     * Whether the log sorts after the cursor in {@code occurredAt DESC, id DESC} order. Ids are
+     * compared as unsigned bytes, the way the database orders them, not with {@link UUID#compareTo}.
+     */
+    static boolean isAfter(AuditLog auditLog, AuditLogCursor after) {
+        if (after == null) {
+            return true;
+        }
+        int byTime = auditLog.getOccurredAt().compareTo(after.occurredAt());
+        if (byTime != 0) {
+            return byTime < 0;
+        }
+        return compareUnsigned(auditLog.getId(), after.id()) < 0;
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private void createBucketIfNotExists() {
+        if (bucketChecked) {
+            return;
+        }
+        try {
+            s3Client.headBucket(b -> b.bucket(bucketName));
+        } catch (Exception e) {
+            s3Client.createBucket(b -> b.bucket(bucketName));
+        }
+        bucketChecked = true;
+    }
+
+    static String key(YearMonth month) {
+        return KEY_PREFIX + MONTH_PATH.format(month) + KEY_SUFFIX;
+    }
+
+    private static YearMonth parseMonth(String key) {
+        if (!key.startsWith(KEY_PREFIX) || !key.endsWith(KEY_SUFFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(key.substring(KEY_PREFIX.length(), key.length() - KEY_SUFFIX.length()), MONTH_PATH);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    private static Instant end(YearMonth month) {
+        return start(month.plusMonths(1));
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Temporary file; the OS cleans up eventually
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dev.cleanslice.platform.audit.adapters.out.s3;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.cleanslice.platform.audit.application.port.AuditLogCursor;
+import dev.cleanslice.platform.audit.application.port.AuditLogQuery;
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3AuditArchiveAdapterTest {
+
+    @Test
+    void shouldScanOnlyMonthsOverlappingRangeAndCursorNewestFirst() {
+        var archived = List.of(YearMonth.of(2026, 1), YearMonth.of(2026, 3), YearMonth.of(2026, 2), YearMonth.of(2025, 12));
+        var query = new AuditLogQuery(null, null, null, null, Instant.parse("2026-01-15T00:00:00Z"), null);
+        var after = new AuditLogCursor(Instant.parse("2026-02-10T00:00:00Z"), UUID.randomUUID());
+
+        assertThat(S3AuditArchiveAdapter.candidateMonths(archived, query, after))
+                .containsExactly(YearMonth.of(2026, 2), YearMonth.of(2026, 1));
+    }
+
+    @Test
+    void shouldOrderIdsAsUnsignedWhenTimesAreEqual() {
+        var occurredAt = Instant.parse("2026-02-10T00:00:00Z");
+        var auditLog = new AuditLog("FILE_UPLOADED", UUID.randomUUID(), "FILE", null, null, null, occurredAt);
+        auditLog.setId(UUID.fromString("7fffffff-0000-7000-8000-000000000000"));
+
+        // Signed comparison would put 0x8... before 0x7...
+        var cursor = new AuditLogCursor(occurredAt, UUID.fromString("80000000-0000-7000-8000-000000000000"));
+
+        assertThat(S3AuditArchiveAdapter.isAfter(auditLog, cursor)).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExportEveryMonthInOneReadNewestFirst() throws Exception {
+        var objectMapper = new ObjectMapper().findAndRegisterModules();
+        var january = List.of(log(Instant.parse("2026-01-20T00:00:00Z")), log(Instant.parse("2026-01-10T00:00:00Z")));
+        var february = List.of(log(Instant.parse("2026-02-20T00:00:00Z")), log(Instant.parse("2026-02-10T00:00:00Z")));
+        var archives = Map.of(
+                S3AuditArchiveAdapter.key(YearMonth.of(2026, 1)), archive(objectMapper, january),
+                S3AuditArchiveAdapter.key(YearMonth.of(2026, 2)), archive(objectMapper, february));
+
+        var s3Client = mock(S3Client.class);
+        when(s3Client.listObjectsV2Paginator(any(Consumer.class))).thenAnswer(invocation ->
+                new ListObjectsV2Iterable(s3Client, ListObjectsV2Request.builder().bucket("audit").build()));
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+                .contents(archives.keySet().stream().map(key -> S3Object.builder().key(key).build()).toList())
+                .isTruncated(false)
+                .build());
+        when(s3Client.getObject(any(Consumer.class))).thenAnswer(invocation -> {
+            var request = GetObjectRequest.builder();
+            ((Consumer<GetObjectRequest.Builder>) invocation.getArgument(0)).accept(request);
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(archives.get(request.build().key()))));
+        });
+        var adapter = new S3AuditArchiveAdapter(s3Client, "audit", objectMapper);
+
+        var exported = new ArrayList<AuditLog>();
+        long count = adapter.export(new AuditLogQuery(null, null, null, null, null, null), exported::add);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(exported).extracting(AuditLog::getOccurredAt).containsExactly(
+                february.get(0).getOccurredAt(), february.get(1).getOccurredAt(),
+                january.get(0).getOccurredAt(), january.get(1).getOccurredAt());
+        verify(s3Client, times(2)).getObject(any(Consumer.class));
+    }
+
+    private static AuditLog log(Instant occurredAt) {
+        var auditLog = new AuditLog("FILE_UPLOADED", UUID.randomUUID(), "FILE", null, null, null, occurredAt);
+        auditLog.setId(UUID.randomUUID());
+        return auditLog;
+    }
+
+    private static byte[] archive(ObjectMapper objectMapper, List<AuditLog> logs) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(bytes)) {
+            for (var auditLog : logs) {
+                gzip.write((objectMapper.writeValueAsString(auditLog) + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
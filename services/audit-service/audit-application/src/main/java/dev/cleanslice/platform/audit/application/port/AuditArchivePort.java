@@ -0,0 +1,42 @@
+package dev.cleanslice.platform.audit.application.port;
+
+import dev.cleanslice.platform.audit.domain.AuditLog;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Output port for cold audit logs moved out of the database, one archive per month.
+ */
+public interface AuditArchivePort {
+
+    /**
+     * Writes the month's archive from {@code source}, replacing any earlier one,
+     * and returns the number of logs written.
+     */
+    long store(YearMonth month, AuditLogSource source);
+
+    /**
+     * Same contract as {@link AuditLogQueryPort#find}, answered by scanning the archives
+     * whose month overlaps the query.
+     */
+    List<AuditLog> scan(AuditLogQuery query, AuditLogCursor after, int limit);
+
+    /**
+     * Passes every archived log matching the query to {@code sink}, most recent first, reading
+     * each archive once. Paging through {@link #scan} instead would re-read a month from its
+     * start for every page.
+     *
+     * @return the number of logs passed to the sink
+     */
+    long export(AuditLogQuery query, Consumer<AuditLog> sink);
+
+    /**
+     * Pushes logs, ordered by {@code occurredAt DESC, id DESC}, into an archive being written.
+     */
+    @FunctionalInterface
+    interface AuditLogSource {
+        void forEach(Consumer<AuditLog> sink);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.cleanslice.platform.audit.application.port;
+
+import dev.cleanslice.platform.audit.domain.AuditLog;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated audit log search.
+ * {@code nextCursor} is null on the last page.
+ */
+public record AuditLogPage(List<AuditLog> items, AuditLogCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.cleanslice.platform.audit.application.port;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Filters for an audit log search. Null fields are not filtered on;
+ * the time range is {@code from} inclusive, {@code to} exclusive.
+ */
+public record AuditLogQuery(UUID resourceId,
+                            String resourceType,
+                            UUID actorId,
+                            String eventType,
+                            Instant from,
+                            Instant to) {
+
+    public AuditLogQuery {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+    }
+}
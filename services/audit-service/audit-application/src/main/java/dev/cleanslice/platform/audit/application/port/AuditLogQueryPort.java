@@ -0,0 +1,17 @@
+package dev.cleanslice.platform.audit.application.port;
+
+import dev.cleanslice.platform.audit.domain.AuditLog;
+
+import java.util.List;
+
+/**
+ * Output port for reading audit logs.
+ */
+public interface AuditLogQueryPort {
+
+    /**
+     * Returns up to {@code limit} logs matching the query ordered by {@code occurredAt DESC, id DESC},
+     * starting after {@code after} (or from the top when null).
+     */
+    List<AuditLog> find(AuditLogQuery query, AuditLogCursor after, int limit);
+}
@@ -0,0 +1,29 @@
+package dev.cleanslice.platform.audit.application.port;
+
+import dev.cleanslice.platform.audit.domain.AuditLog;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Output port for the monthly partitions of the hot audit log table.
+ */
+public interface AuditPartitionPort {
+
+    List<YearMonth> findMonthlyPartitions();
+
+    /**
+     * Streams the month's logs to {@code sink} ordered by {@code occurredAt DESC, id DESC}
+     * and returns how many were read.
+     */
+    long read(YearMonth month, Consumer<AuditLog> sink);
+
+    /**
+     * Drops the month's partition if it still holds exactly {@code expectedRows} rows,
+     * so logs written after it was read are never lost.
+     *
+     * @return false if the partition changed and was kept
+     */
+    boolean dropIfUnchanged(YearMonth month, long expectedRows);
+}
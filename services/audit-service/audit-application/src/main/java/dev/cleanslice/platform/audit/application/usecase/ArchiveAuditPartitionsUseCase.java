@@ -0,0 +1,70 @@
+package dev.cleanslice.platform.audit.application.usecase;
+
+import dev.cleanslice.platform.audit.application.port.AuditArchivePort;
+import dev.cleanslice.platform.audit.application.port.AuditPartitionPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.YearMonth;
+
+/**
+ * Use case for moving cold audit partitions to the archive.
+ * <p>
+ * Every monthly partition older than {@code audit.archive.after-months} is written to the
+ * archive and then dropped, keeping the hot table to recent months. A partition is only
+ * dropped if it still holds exactly the rows that were archived; otherwise it is kept and
+ * archived again on the next run.
+ */
+@Service
+public class ArchiveAuditPartitionsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveAuditPartitionsUseCase.class);
+
+    private final AuditPartitionPort auditPartitionPort;
+    private final AuditArchivePort auditArchivePort;
+    private final int afterMonths;
+    private final Clock clock;
+
+    @Autowired
+    public ArchiveAuditPartitionsUseCase(AuditPartitionPort auditPartitionPort,
+                                         AuditArchivePort auditArchivePort,
+                                         @Value("${audit.archive.after-months:3}") int afterMonths) {
+        this(auditPartitionPort, auditArchivePort, afterMonths, Clock.systemUTC());
+    }
+
+    ArchiveAuditPartitionsUseCase(AuditPartitionPort auditPartitionPort, AuditArchivePort auditArchivePort,
+                                  int afterMonths, Clock clock) {
+        if (afterMonths < 1) {
+            throw new IllegalArgumentException("Partitions can only be archived once their month is over");
+        }
+        this.auditPartitionPort = auditPartitionPort;
+        this.auditArchivePort = auditArchivePort;
+        this.afterMonths = afterMonths;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the number of partitions archived and dropped.
+     */
+    public int execute() {
+        YearMonth oldestKept = YearMonth.now(clock).minusMonths(afterMonths);
+        int archived = 0;
+        for (YearMonth month : auditPartitionPort.findMonthlyPartitions().stream().sorted().toList()) {
+            if (!month.isBefore(oldestKept)) {
+                break;
+            }
+            long written = auditArchivePort.store(month, sink -> auditPartitionPort.read(month, sink));
+            if (auditPartitionPort.dropIfUnchanged(month, written)) {
+                log.info("Archived {} audit logs of {}", written, month);
+                archived++;
+            } else {
+                log.warn("Audit logs of {} changed while archiving; partition kept for the next run", month);
+            }
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.cleanslice.platform.audit.application.usecase;
+
+import dev.cleanslice.platform.audit.application.port.AuditArchivePort;
+import dev.cleanslice.platform.audit.application.port.AuditLogCursor;
+import dev.cleanslice.platform.audit.application.port.AuditLogQuery;
+import dev.cleanslice.platform.audit.application.port.AuditLogQueryPort;
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting every audit log matching a query, most recent first.
+ * <p>
+ * The range is walked page by page with the same keyset queries as the search, so only
+ * one page is held in memory however large the range is, and no transaction or database
+ * cursor stays open while the client reads slowly. Archived logs are streamed in one pass
+ * over each month's archive instead, which cannot seek to a cursor.
+ */
+@Service
+public class ExportAuditLogsUseCase {
+
+    private final AuditLogQueryPort auditLogQueryPort;
+    private final AuditArchivePort auditArchivePort;
+    private final int pageSize;
+
+    public ExportAuditLogsUseCase(AuditLogQueryPort auditLogQueryPort,
+                                  AuditArchivePort auditArchivePort,
+                                  @Value("${audit.export.page-size:1000}") int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Export page size must be positive");
+        }
+        this.auditLogQueryPort = auditLogQueryPort;
+        this.auditArchivePort = auditArchivePort;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Passes each matching log to {@code sink} and returns how many were exported.
+     *
+     * @param archived export from the archive instead of the database
+     */
+    public long execute(AuditLogQuery query, boolean archived, Consumer<AuditLog> sink) {
+        if (archived) {
+            return auditArchivePort.export(query, sink);
+        }
+        long exported = 0;
+        AuditLogCursor after = null;
+        do {
+            var page = SearchAuditLogsUseCase.fetchPage(auditLogQueryPort, query, after, pageSize);
+            page.items().forEach(sink);
+            exported += page.items().size();
+            after = page.nextCursor();
+        } while (after != null);
+        return exported;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.cleanslice.platform.audit.application.usecase;
+
+import dev.cleanslice.platform.audit.application.port.AuditArchivePort;
+import dev.cleanslice.platform.audit.application.port.AuditLogCursor;
+import dev.cleanslice.platform.audit.application.port.AuditLogPage;
+import dev.cleanslice.platform.audit.application.port.AuditLogQuery;
+import dev.cleanslice.platform.audit.application.port.AuditLogQueryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for searching audit logs, most recent first.
+ * Pages are keyset-based so every page costs the same regardless of depth.
+ * Archived months are searched separately, by scanning the archive.
+ */
+@Service
+public class SearchAuditLogsUseCase {
+
+    private final AuditLogQueryPort auditLogQueryPort;
+    private final AuditArchivePort auditArchivePort;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public SearchAuditLogsUseCase(AuditLogQueryPort auditLogQueryPort,
+                                  AuditArchivePort auditArchivePort,
+                                  @Value("${audit.query.default-page-size:50}") int defaultPageSize,
+                                  @Value("${audit.query.max-page-size:500}") int maxPageSize) {
+        this.auditLogQueryPort = auditLogQueryPort;
+        this.auditArchivePort = auditArchivePort;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * @param cursor   opaque cursor from the previous page, or null for the first page
+     * @param limit    page size, or null for the default; capped at the configured maximum
+     * @param archived search the archive instead of the database
+     */
+    public AuditLogPage execute(AuditLogQuery query, String cursor, Integer limit, boolean archived) {
+        int pageSize = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        AuditLogCursor after = cursor == null || cursor.isBlank() ? null : AuditLogCursor.decode(cursor);
+        return fetchPage(archived ? auditArchivePort::scan : auditLogQueryPort, query, after, pageSize);
+    }
+
+    static AuditLogPage fetchPage(AuditLogQueryPort port, AuditLogQuery query, AuditLogCursor after, int pageSize) {
+        // Fetch one extra row to learn whether another page exists
+        var logs = port.find(query, after, pageSize + 1);
+        if (logs.size() <= pageSize) {
+            return new AuditLogPage(logs, null);
+        }
+
+        var items = logs.subList(0, pageSize);
+        var last = items.get(pageSize - 1);
+        return new AuditLogPage(items, new AuditLogCursor(last.getOccurredAt(), last.getId()));
+    }
+}
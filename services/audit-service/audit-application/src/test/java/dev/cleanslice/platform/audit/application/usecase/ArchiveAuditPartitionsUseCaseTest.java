@@ -0,0 +1,50 @@
+package dev.cleanslice.platform.audit.application.usecase;
+
+import dev.cleanslice.platform.audit.application.port.AuditArchivePort;
+import dev.cleanslice.platform.audit.application.port.AuditPartitionPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArchiveAuditPartitionsUseCaseTest {
+
+    private final AuditPartitionPort partitionPort = mock(AuditPartitionPort.class);
+    private final AuditArchivePort archivePort = mock(AuditArchivePort.class);
+
+    private final ArchiveAuditPartitionsUseCase usecase = new ArchiveAuditPartitionsUseCase(partitionPort, archivePort,
+            3, Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void shouldArchiveAndDropOnlyPartitionsOlderThanTheCutoff() {
+        var june = YearMonth.of(2026, 6);
+        when(partitionPort.findMonthlyPartitions()).thenReturn(List.of(YearMonth.of(2026, 7), june));
+        when(archivePort.store(eq(june), any())).thenReturn(42L);
+        when(partitionPort.dropIfUnchanged(june, 42)).thenReturn(true);
+
+        assertThat(usecase.execute()).isEqualTo(1);
+        verify(archivePort, never()).store(eq(YearMonth.of(2026, 7)), any());
+    }
+
+    @Test
+    void shouldKeepPartitionThatChangedWhileArchiving() {
+        var june = YearMonth.of(2026, 6);
+        when(partitionPort.findMonthlyPartitions()).thenReturn(List.of(june));
+        when(archivePort.store(eq(june), any())).thenReturn(42L);
+        when(partitionPort.dropIfUnchanged(eq(june), anyLong())).thenReturn(false);
+
+        assertThat(usecase.execute()).isZero();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.cleanslice.platform.audit.application.usecase;
+
+import dev.cleanslice.platform.audit.application.port.AuditArchivePort;
+import dev.cleanslice.platform.audit.application.port.AuditLogCursor;
+import dev.cleanslice.platform.audit.application.port.AuditLogQuery;
+import dev.cleanslice.platform.audit.application.port.AuditLogQueryPort;
+import dev.cleanslice.platform.audit.domain.AuditLog;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExportAuditLogsUseCaseTest {
+
+    private final AuditLogQueryPort queryPort = mock(AuditLogQueryPort.class);
+    private final AuditArchivePort archivePort = mock(AuditArchivePort.class);
+    private final ExportAuditLogsUseCase usecase = new ExportAuditLogsUseCase(queryPort, archivePort, 2);
+
+    @Test
+    void shouldWalkAllPagesFromTheLastItemOfEachPage() {
+        var query = new AuditLogQuery(null, "FILE", null, null, null, null);
+        var first = log(Instant.parse("2026-10-03T00:00:00Z"));
+        var second = log(Instant.parse("2026-10-02T00:00:00Z"));
+        var third = log(Instant.parse("2026-10-01T00:00:00Z"));
+        when(queryPort.find(eq(query), isNull(), eq(3))).thenReturn(List.of(first, second, third));
+        when(queryPort.find(query, new AuditLogCursor(second.getOccurredAt(), second.getId()), 3))
+                .thenReturn(List.of(third));
+
+        var exported = new ArrayList<AuditLog>();
+        long count = usecase.execute(query, false, exported::add);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(exported).containsExactly(first, second, third);
+    }
+
+    @Test
+    void shouldStreamArchivedLogsInOnePassInsteadOfPaging() {
+        var query = new AuditLogQuery(null, "FILE", null, null, null, null);
+        Consumer<AuditLog> sink = auditLog -> { };
+        when(archivePort.export(query, sink)).thenReturn(5L);
+
+        assertThat(usecase.execute(query, true, sink)).isEqualTo(5);
+        verify(archivePort, never()).scan(any(), any(), anyInt());
+    }
+
+    private static AuditLog log(Instant occurredAt) {
+        return new AuditLog("FILE_UPLOADED", UUID.randomUUID(), "FILE", null, "File uploaded", null, occurredAt);
+    }
+}
@@ -5,11 +5,16 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_resource", columnList = "resource_id, occurred_at"),
+        @Index(name = "idx_audit_logs_actor", columnList = "actor_id, occurred_at"),
+        @Index(name = "idx_audit_logs_occurred", columnList = "occurred_at, id")
+})
 public class AuditLog {
 
+    // Time-ordered (UUIDv7) so inserts append to the index; the table is partitioned
+    // by occurred_at, see schema-postgresql.sql
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
     @Column(nullable = false)
@@ -36,11 +41,13 @@ public class AuditLog {
 
     // Constructors
     public AuditLog() {
+        this.id = UuidV7.generate();
         this.createdAt = Instant.now();
     }
 
     public AuditLog(String eventType, UUID resourceId, String resourceType, 
                     UUID actorId, String action, String details, Instant occurredAt) {
+        this.id = UuidV7.generate();
         this.eventType = eventType;
         this.resourceId = resourceId;
         this.resourceType = resourceType;
@@ -0,0 +1,29 @@
+package dev.cleanslice.platform.audit.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void shouldEncodeVersionVariantAndTimestamp() {
+        var timestamp = Instant.parse("2026-10-18T12:00:00.123Z");
+
+        var uuid = UuidV7.generate(timestamp);
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(uuid)).isEqualTo(timestamp);
+    }
+
+    @Test
+    void shouldSortByCreationTime() {
+        var earlier = UuidV7.generate(Instant.parse("2026-10-18T12:00:00Z"));
+        var later = UuidV7.generate(Instant.parse("2026-10-18T12:00:00.001Z"));
+
+        assertThat(earlier.toString()).isLessThan(later.toString());
+    }
+}
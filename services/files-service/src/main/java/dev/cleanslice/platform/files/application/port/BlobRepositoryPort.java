@@ -0,0 +1,15 @@
+package dev.cleanslice.platform.files.application.port;
+
+/**
+ * Output port for the reference counts of content-addressed blobs.
+ */
+public interface BlobRepositoryPort {
+
+    boolean exists(String digest);
+
+    /**
+     * Adds a reference to a blob, recording it with a single reference if it is new.
+     * Concurrent first references to the same digest all count.
+     */
+    void addReference(String digest, long size);
+}
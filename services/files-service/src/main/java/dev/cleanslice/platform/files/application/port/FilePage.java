@@ -0,0 +1,16 @@
+package dev.cleanslice.platform.files.application.port;
+
+import dev.cleanslice.platform.files.domain.FileEntry;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated file listing.
+ * {@code nextCursor} is null on the last page.
+ */
+public record FilePage(List<FileEntry> items, FileCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -13,7 +13,17 @@ public interface FileRepositoryPort {
     FileEntry save(FileEntry fileEntry);
     Optional<FileEntry> findById(UUID id);
     Optional<FileEntry> findByOwnerIdAndName(UUID ownerId, String name);
-    List<FileEntry> findByOwnerId(UUID ownerId);
-    List<FileEntry> search(String name, String tag, String type);
+
+    /**
+     * Returns up to {@code limit} of the owner's files ordered by {@code updatedAt DESC, id DESC},
+     * starting after {@code after} (or from the top when null).
+     */
+    List<FileEntry> findByOwnerId(UUID ownerId, FileCursor after, int limit);
+
+    /**
+     * Returns the owner's live files matching the query, best matches first.
+     */
+    List<FileEntry> search(FileSearchQuery query);
+
     void delete(UUID id);
 }
@@ -0,0 +1,16 @@
+package dev.cleanslice.platform.files.application.port;
+
+import java.util.UUID;
+
+/**
+ * Criteria for searching one owner's live files. Null filters are ignored.
+ *
+ * @param name   matched case-insensitively against the file name; exact matches rank
+ *               first, then prefix matches, then substring matches
+ * @param type   content type prefix, e.g. {@code image/} or {@code application/pdf}
+ * @param tag    exact tag the file must carry
+ * @param offset rows to skip in ranked order
+ * @param limit  maximum rows to return
+ */
+public record FileSearchQuery(UUID ownerId, String name, String type, String tag, int offset, int limit) {
+}
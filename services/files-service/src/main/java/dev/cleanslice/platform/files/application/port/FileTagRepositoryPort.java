@@ -0,0 +1,17 @@
+package dev.cleanslice.platform.files.application.port;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Output port for file tag persistence.
+ */
+public interface FileTagRepositoryPort {
+
+    Set<String> findByFileId(UUID fileId);
+
+    /**
+     * Replaces all tags of the file with the given set.
+     */
+    void replaceTags(UUID fileId, Set<String> tags);
+}
@@ -2,6 +2,7 @@ package dev.cleanslice.platform.files.application.port;
 
 import dev.cleanslice.platform.files.domain.FileVersion;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,7 +16,28 @@ public interface FileVersionRepositoryPort {
 
     Optional<FileVersion> findById(UUID id);
 
+    /**
+     * Returns the given versions, skipping unknown versions and versions of deleted files.
+     */
+    List<FileVersion> findVersionsOfLiveFiles(Collection<UUID> ids);
+
     List<FileVersion> findByFileId(UUID fileId);
 
-    Integer findMaxVersionNumberByFileId(UUID fileId);
+    Optional<FileVersion> findByFileIdAndVersionNumber(UUID fileId, int versionNumber);
+
+    /**
+     * Returns the current version of each given file, skipping deleted and unknown files.
+     */
+    List<FileVersion> findCurrentVersionsOfLiveFiles(Collection<UUID> fileIds);
+
+    /**
+     * Starts version numbering for a newly created file at version 1.
+     */
+    void startVersionNumbering(UUID fileId);
+
+    /**
+     * Atomically allocates the next version number of an existing file.
+     * Concurrent callers always receive distinct numbers.
+     */
+    int allocateVersionNumber(UUID fileId);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package dev.cleanslice.platform.files.application.port;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for caching presigned download URLs.
+ * Entries are tagged with the file they belong to so every URL of a file can be
+ * dropped when its current version or visibility changes.
+ */
+public interface PresignedUrlCachePort {
+
+    /**
+     * Returns the cached URL if it is still safely within its validity window.
+     */
+    Optional<String> get(String cacheKey);
+
+    void put(String cacheKey, UUID fileId, String url);
+
+    void invalidateFile(UUID fileId);
+}
@@ -0,0 +1,33 @@
+package dev.cleanslice.platform.files.application.port;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port tracking storage objects written ahead of their metadata.
+ * An object is registered before it is written and released in the transaction
+ * that commits its metadata, so records left behind mark abandoned objects.
+ */
+public interface StagedUploadRepositoryPort {
+
+    /**
+     * Records, in its own transaction, that an object is about to be written.
+     */
+    UUID register(String storageKey);
+
+    void release(UUID id);
+
+    /**
+     * Returns up to {@code limit} records registered before {@code cutoff}, oldest first.
+     */
+    List<StagedUpload> findRegisteredBefore(Instant cutoff, int limit);
+
+    /**
+     * Whether the key has been registered again since {@code since}, i.e. is being written right now.
+     */
+    boolean isRegisteredSince(String storageKey, Instant since);
+
+    record StagedUpload(UUID id, String storageKey, Instant createdAt) {
+    }
+}
@@ -7,7 +7,24 @@ import java.io.InputStream;
  */
 public interface StoragePort {
     void put(String storageKey, InputStream content, long size, String contentType);
+
+    /**
+     * Streams content of unknown length to storage part by part, holding only a
+     * bounded number of parts of the stream in memory.
+     *
+     * @return number of bytes written
+     * @throws UploadTooLargeException if the stream is longer than the maximum upload size;
+     *         reading stops there and nothing is stored
+     */
+    long putStream(String storageKey, InputStream content, String contentType);
+
     InputStream get(String storageKey);
+
+    /**
+     * Server-side copy of an object of any size; the content never passes through this service.
+     */
+    void copy(String sourceKey, String targetKey);
+
     void delete(String storageKey);
     String generatePresignedDownloadUrl(String storageKey);
     boolean exists(String storageKey);
@@ -0,0 +1,19 @@
+package dev.cleanslice.platform.files.application.port;
+
+/**
+ * Thrown when streamed content exceeds the maximum upload size.
+ * Storage stops reading at the limit and nothing of the upload is kept.
+ */
+public class UploadTooLargeException extends RuntimeException {
+
+    private final long maxBytes;
+
+    public UploadTooLargeException(long maxBytes) {
+        super("Upload exceeds the maximum size of " + maxBytes + " bytes");
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
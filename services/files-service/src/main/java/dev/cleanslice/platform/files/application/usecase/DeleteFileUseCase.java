@@ -2,6 +2,7 @@ package dev.cleanslice.platform.files.application.usecase;
 
 import dev.cleanslice.platform.files.application.port.FileEventPublisherPort;
 import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +16,14 @@ public class DeleteFileUseCase {
 
     private final FileRepositoryPort fileRepositoryPort;
     private final FileEventPublisherPort eventPublisherPort;
+    private final PresignedUrlCachePort presignedUrlCache;
 
     public DeleteFileUseCase(FileRepositoryPort fileRepositoryPort,
-                            FileEventPublisherPort eventPublisherPort) {
+                            FileEventPublisherPort eventPublisherPort,
+                            PresignedUrlCachePort presignedUrlCache) {
         this.fileRepositoryPort = fileRepositoryPort;
         this.eventPublisherPort = eventPublisherPort;
+        this.presignedUrlCache = presignedUrlCache;
     }
 
     @Transactional
@@ -30,6 +34,7 @@ public class DeleteFileUseCase {
         // Soft delete in database
         var deletedFile = fileEntry.markDeleted();
         fileRepositoryPort.save(deletedFile);
+        AfterCommit.run(() -> presignedUrlCache.invalidateFile(fileId));
         
         // Optionally delete from storage (hard delete)
         // storagePort.delete(fileId);
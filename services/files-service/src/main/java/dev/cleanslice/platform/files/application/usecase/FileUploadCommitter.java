@@ -0,0 +1,99 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.BlobRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileEventPublisherPort;
+import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
+import dev.cleanslice.platform.files.application.port.StagedUploadRepositoryPort;
+import dev.cleanslice.platform.files.domain.FileEntry;
+import dev.cleanslice.platform.files.domain.FileVersion;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Second phase of an upload: records content that is already in storage.
+ * Only database work happens here, so the transaction holds its connection for
+ * a few statements rather than for the duration of the transfer.
+ * Supports versioning - if file with same name exists, creates new version.
+ */
+@Service
+public class FileUploadCommitter {
+
+    private final FileRepositoryPort fileRepositoryPort;
+    private final FileVersionRepositoryPort fileVersionRepositoryPort;
+    private final BlobRepositoryPort blobRepositoryPort;
+    private final StagedUploadRepositoryPort stagedUploadRepositoryPort;
+    private final FileEventPublisherPort eventPublisherPort;
+    private final PresignedUrlCachePort presignedUrlCache;
+
+    public FileUploadCommitter(FileRepositoryPort fileRepositoryPort,
+                               FileVersionRepositoryPort fileVersionRepositoryPort,
+                               BlobRepositoryPort blobRepositoryPort,
+                               StagedUploadRepositoryPort stagedUploadRepositoryPort,
+                               FileEventPublisherPort eventPublisherPort,
+                               PresignedUrlCachePort presignedUrlCache) {
+        this.fileRepositoryPort = fileRepositoryPort;
+        this.fileVersionRepositoryPort = fileVersionRepositoryPort;
+        this.blobRepositoryPort = blobRepositoryPort;
+        this.stagedUploadRepositoryPort = stagedUploadRepositoryPort;
+        this.eventPublisherPort = eventPublisherPort;
+        this.presignedUrlCache = presignedUrlCache;
+    }
+
+    @Transactional
+    public FileEntry commit(UUID ownerId, String filename, String contentType, StoredUpload stored) {
+        // Check if file with same name already exists
+        var existingFile = fileRepositoryPort.findByOwnerIdAndName(ownerId, filename);
+
+        if (stored.digest() != null) {
+            blobRepositoryPort.addReference(stored.digest(), stored.size());
+        }
+
+        FileEntry savedFile;
+
+        if (existingFile.isPresent()) {
+            // Create new version
+            var file = existingFile.get();
+            int nextVersion = fileVersionRepositoryPort.allocateVersionNumber(file.getId());
+
+            // Create version record
+            var fileVersion = FileVersion.create(file.getId(), nextVersion, filename, contentType,
+                    stored.size(), stored.storageKey(), stored.digest(), ownerId);
+            fileVersionRepositoryPort.save(fileVersion);
+
+            // Publish version uploaded event
+            eventPublisherPort.publishFileVersionUploaded(fileVersion);
+
+            // Update file entry
+            savedFile = fileRepositoryPort.save(file.updateToNewVersion(filename, contentType, stored.size(), nextVersion));
+
+            // Cached URL for the file now points at the previous version
+            AfterCommit.run(() -> presignedUrlCache.invalidateFile(file.getId()));
+
+        } else {
+            // Save metadata for a new file
+            savedFile = fileRepositoryPort.save(
+                    FileEntry.create(UUID.randomUUID(), ownerId, filename, contentType, stored.size()));
+            fileVersionRepositoryPort.startVersionNumbering(savedFile.getId());
+
+            // Create initial version record
+            var fileVersion = FileVersion.create(savedFile.getId(), 1, filename, contentType,
+                    stored.size(), stored.storageKey(), stored.digest(), ownerId);
+            fileVersionRepositoryPort.save(fileVersion);
+
+            // Publish version uploaded event
+            eventPublisherPort.publishFileVersionUploaded(fileVersion);
+        }
+
+        // The content is now referenced; the reaper must leave it alone
+        stored.stagedIds().forEach(stagedUploadRepositoryPort::release);
+
+        // Publish event
+        eventPublisherPort.publishFileUploaded(savedFile);
+
+        return savedFile;
+    }
+}
@@ -1,6 +1,8 @@
 package dev.cleanslice.platform.files.application.usecase;
 
 import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
 import dev.cleanslice.platform.files.application.port.StoragePort;
 import org.springframework.stereotype.Service;
 
@@ -8,19 +10,33 @@ import java.util.UUID;
 
 /**
  * Use case for generating presigned download URLs.
+ * URLs are cached per file until shortly before they expire, so hot files skip
+ * both the metadata lookup and the signature computation.
  */
 @Service
 public class GetDownloadUrlUseCase {
 
     private final StoragePort storagePort;
     private final FileRepositoryPort fileRepositoryPort;
+    private final FileVersionRepositoryPort fileVersionRepositoryPort;
+    private final PresignedUrlCachePort presignedUrlCache;
 
-    public GetDownloadUrlUseCase(StoragePort storagePort, FileRepositoryPort fileRepositoryPort) {
+    public GetDownloadUrlUseCase(StoragePort storagePort, FileRepositoryPort fileRepositoryPort,
+                                 FileVersionRepositoryPort fileVersionRepositoryPort,
+                                 PresignedUrlCachePort presignedUrlCache) {
         this.storagePort = storagePort;
         this.fileRepositoryPort = fileRepositoryPort;
+        this.fileVersionRepositoryPort = fileVersionRepositoryPort;
+        this.presignedUrlCache = presignedUrlCache;
     }
 
     public String execute(UUID fileId) {
+        String cacheKey = fileCacheKey(fileId);
+        var cached = presignedUrlCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         var fileEntry = fileRepositoryPort.findById(fileId)
                 .orElseThrow(() -> new IllegalArgumentException("File not found"));
 
@@ -28,12 +44,17 @@ public class GetDownloadUrlUseCase {
             throw new IllegalArgumentException("File is deleted");
         }
 
-        // Generate storage key based on current version
-        String storageKey = fileEntry.getCurrentVersion() == 1
-                ? fileId.toString()
-                : fileId + "/v" + fileEntry.getCurrentVersion();
+        // The storage key lives on the version row: content-addressed versions share blob keys
+        var currentVersion = fileVersionRepositoryPort
+                .findByFileIdAndVersionNumber(fileId, fileEntry.getCurrentVersion())
+                .orElseThrow(() -> new IllegalArgumentException("Current version not found"));
+
+        String url = storagePort.generatePresignedDownloadUrl(currentVersion.getStorageKey());
+        presignedUrlCache.put(cacheKey, fileId, url);
+        return url;
+    }
 
-        // Generate presigned URL with 1 hour TTL
-        return storagePort.generatePresignedDownloadUrl(storageKey);
+    static String fileCacheKey(UUID fileId) {
+        return "file:" + fileId;
     }
 }
@@ -0,0 +1,92 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
+import dev.cleanslice.platform.files.application.port.StoragePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use case for generating presigned download URLs for many files and versions at once.
+ * Cached URLs are reused; the rest are resolved with one query per kind of ID.
+ * IDs that do not exist, or whose file is deleted, are reported as not found.
+ */
+@Service
+public class GetDownloadUrlsUseCase {
+
+    private final StoragePort storagePort;
+    private final FileVersionRepositoryPort fileVersionRepositoryPort;
+    private final PresignedUrlCachePort presignedUrlCache;
+    private final int maxBatchSize;
+
+    public GetDownloadUrlsUseCase(StoragePort storagePort,
+                                  FileVersionRepositoryPort fileVersionRepositoryPort,
+                                  PresignedUrlCachePort presignedUrlCache,
+                                  @Value("${storage.presign.batch.max-ids:100}") int maxBatchSize) {
+        this.storagePort = storagePort;
+        this.fileVersionRepositoryPort = fileVersionRepositoryPort;
+        this.presignedUrlCache = presignedUrlCache;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public DownloadUrls execute(List<UUID> fileIds, List<UUID> versionIds) {
+        Set<UUID> uniqueFileIds = fileIds == null ? Set.of() : new LinkedHashSet<>(fileIds);
+        Set<UUID> uniqueVersionIds = versionIds == null ? Set.of() : new LinkedHashSet<>(versionIds);
+        if (uniqueFileIds.size() + uniqueVersionIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " IDs can be requested at once");
+        }
+
+        var notFound = new ArrayList<UUID>();
+        return new DownloadUrls(resolveFiles(uniqueFileIds, notFound), resolveVersions(uniqueVersionIds, notFound), notFound);
+    }
+
+    private Map<UUID, String> resolveFiles(Set<UUID> fileIds, List<UUID> notFound) {
+        var urls = new LinkedHashMap<UUID, String>();
+        var misses = new ArrayList<UUID>();
+        for (var fileId : fileIds) {
+            presignedUrlCache.get(GetDownloadUrlUseCase.fileCacheKey(fileId))
+                    .ifPresentOrElse(url -> urls.put(fileId, url), () -> misses.add(fileId));
+        }
+
+        if (!misses.isEmpty()) {
+            for (var version : fileVersionRepositoryPort.findCurrentVersionsOfLiveFiles(misses)) {
+                String url = storagePort.generatePresignedDownloadUrl(version.getStorageKey());
+                presignedUrlCache.put(GetDownloadUrlUseCase.fileCacheKey(version.getFileId()), version.getFileId(), url);
+                urls.put(version.getFileId(), url);
+            }
+            misses.stream().filter(id -> !urls.containsKey(id)).forEach(notFound::add);
+        }
+        return urls;
+    }
+
+    private Map<UUID, String> resolveVersions(Set<UUID> versionIds, List<UUID> notFound) {
+        var urls = new LinkedHashMap<UUID, String>();
+        var misses = new ArrayList<UUID>();
+        for (var versionId : versionIds) {
+            presignedUrlCache.get(GetFileVersionDownloadUrlUseCase.versionCacheKey(versionId))
+                    .ifPresentOrElse(url -> urls.put(versionId, url), () -> misses.add(versionId));
+        }
+
+        if (!misses.isEmpty()) {
+            for (var version : fileVersionRepositoryPort.findVersionsOfLiveFiles(misses)) {
+                String url = storagePort.generatePresignedDownloadUrl(version.getStorageKey());
+                presignedUrlCache.put(GetFileVersionDownloadUrlUseCase.versionCacheKey(version.getId()),
+                        version.getFileId(), url);
+                urls.put(version.getId(), url);
+            }
+            misses.stream().filter(id -> !urls.containsKey(id)).forEach(notFound::add);
+        }
+        return urls;
+    }
+
+    public record DownloadUrls(Map<UUID, String> files, Map<UUID, String> versions, List<UUID> notFound) {
+    }
+}
@@ -1,6 +1,7 @@
 package dev.cleanslice.platform.files.application.usecase;
 
 import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
 import dev.cleanslice.platform.files.application.port.StoragePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,11 +17,24 @@ public class GetFileVersionDownloadUrlUseCase {
 
     private final FileVersionRepositoryPort fileVersionRepository;
     private final StoragePort storagePort;
+    private final PresignedUrlCachePort presignedUrlCache;
 
     public String execute(UUID versionId) {
+        String cacheKey = versionCacheKey(versionId);
+        var cached = presignedUrlCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         var version = fileVersionRepository.findById(versionId)
                 .orElseThrow(() -> new IllegalArgumentException("File version not found: " + versionId));
 
-        return storagePort.generatePresignedDownloadUrl(version.getStorageKey());
+        String url = storagePort.generatePresignedDownloadUrl(version.getStorageKey());
+        presignedUrlCache.put(cacheKey, version.getFileId(), url);
+        return url;
+    }
+
+    static String versionCacheKey(UUID versionId) {
+        return "version:" + versionId;
     }
 }
\ No newline at end of file
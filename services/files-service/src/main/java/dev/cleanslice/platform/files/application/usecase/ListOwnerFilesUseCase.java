@@ -0,0 +1,51 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.FileCursor;
+import dev.cleanslice.platform.files.application.port.FilePage;
+import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use case for listing an owner's files, most recently updated first.
+ * Pages are keyset-based so every page costs the same regardless of depth.
+ */
+@Service
+public class ListOwnerFilesUseCase {
+
+    private final FileRepositoryPort fileRepositoryPort;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ListOwnerFilesUseCase(FileRepositoryPort fileRepositoryPort,
+                                 @Value("${files.listing.default-page-size:50}") int defaultPageSize,
+                                 @Value("${files.listing.max-page-size:500}") int maxPageSize) {
+        this.fileRepositoryPort = fileRepositoryPort;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * @param cursor opaque cursor from the previous page, or null for the first page
+     * @param limit  page size, or null for the default; capped at the configured maximum
+     */
+    public FilePage execute(UUID ownerId, String cursor, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        FileCursor after = cursor == null || cursor.isBlank() ? null : FileCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page exists
+        var files = fileRepositoryPort.findByOwnerId(ownerId, after, pageSize + 1);
+        if (files.size() <= pageSize) {
+            return new FilePage(files, null);
+        }
+
+        var items = files.subList(0, pageSize);
+        var last = items.get(pageSize - 1);
+        return new FilePage(items, new FileCursor(last.getUpdatedAt(), last.getId()));
+    }
+}
@@ -0,0 +1,95 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.BlobRepositoryPort;
+import dev.cleanslice.platform.files.application.port.StagedUploadRepositoryPort;
+import dev.cleanslice.platform.files.application.port.StoragePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Use case for removing storage objects whose upload never committed its metadata,
+ * e.g. because the metadata transaction failed or the instance died mid-upload.
+ * A staged upload is only considered abandoned once it is older than the longest
+ * expected upload. Blobs are kept when another upload has since recorded or is
+ * writing the same content.
+ */
+@Slf4j
+@Service
+public class ReapStagedUploadsUseCase {
+
+    private final StagedUploadRepositoryPort stagedUploadRepositoryPort;
+    private final BlobRepositoryPort blobRepositoryPort;
+    private final StoragePort storagePort;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final Clock clock;
+
+    public ReapStagedUploadsUseCase(StagedUploadRepositoryPort stagedUploadRepositoryPort,
+                                    BlobRepositoryPort blobRepositoryPort,
+                                    StoragePort storagePort,
+                                    @Value("${storage.staging.max-age:1h}") Duration maxAge,
+                                    @Value("${storage.staging.reaper.batch-size:100}") int batchSize) {
+        this(stagedUploadRepositoryPort, blobRepositoryPort, storagePort, maxAge, batchSize, Clock.systemUTC());
+    }
+
+    ReapStagedUploadsUseCase(StagedUploadRepositoryPort stagedUploadRepositoryPort,
+                             BlobRepositoryPort blobRepositoryPort,
+                             StoragePort storagePort,
+                             Duration maxAge,
+                             int batchSize,
+                             Clock clock) {
+        this.stagedUploadRepositoryPort = stagedUploadRepositoryPort;
+        this.blobRepositoryPort = blobRepositoryPort;
+        this.storagePort = storagePort;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Reaps abandoned uploads batch by batch until none are left or one fails.
+     *
+     * @return number of staged uploads reaped
+     */
+    public int execute() {
+        Instant cutoff = clock.instant().minus(maxAge);
+        int total = 0;
+        int reaped;
+        do {
+            reaped = reapBatch(cutoff);
+            total += reaped;
+        } while (reaped == batchSize);
+        return total;
+    }
+
+    private int reapBatch(Instant cutoff) {
+        int reaped = 0;
+        for (var staged : stagedUploadRepositoryPort.findRegisteredBefore(cutoff, batchSize)) {
+            String key = staged.storageKey();
+            try {
+                if (!isStillReferenced(key, cutoff)) {
+                    storagePort.delete(key);
+                }
+                stagedUploadRepositoryPort.release(staged.id());
+                reaped++;
+            } catch (RuntimeException e) {
+                // Left in place and retried on the next run
+                log.warn("Failed to reap staged upload {} ({})", staged.id(), key, e);
+            }
+        }
+        return reaped;
+    }
+
+    private boolean isStillReferenced(String key, Instant cutoff) {
+        if (key.startsWith(UploadFileUseCase.BLOB_PREFIX)
+                && blobRepositoryPort.exists(key.substring(UploadFileUseCase.BLOB_PREFIX.length()))) {
+            return true;
+        }
+        return stagedUploadRepositoryPort.isRegisteredSince(key, cutoff);
+    }
+}
@@ -2,6 +2,7 @@ package dev.cleanslice.platform.files.application.usecase;
 
 import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
 import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
 import dev.cleanslice.platform.files.domain.FileEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,7 @@ public class RestoreFileVersionUseCase {
 
     private final FileRepositoryPort fileRepository;
     private final FileVersionRepositoryPort fileVersionRepository;
+    private final PresignedUrlCachePort presignedUrlCache;
 
     @Transactional
     public FileEntry execute(UUID fileId, int versionNumber) {
@@ -41,6 +43,7 @@ public class RestoreFileVersionUseCase {
         );
 
                 var saved = fileRepository.save(updatedFile);
+                AfterCommit.run(() -> presignedUrlCache.invalidateFile(fileId));
                 log.info("Restored file {} to version {}", fileId, versionNumber);
                 return saved;
     }
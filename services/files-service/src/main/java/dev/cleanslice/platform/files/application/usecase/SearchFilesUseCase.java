@@ -0,0 +1,43 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileSearchQuery;
+import dev.cleanslice.platform.files.domain.FileEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for searching an owner's files by name, content type and tag.
+ * Results are ranked by name relevance and paginated by page number.
+ */
+@Service
+public class SearchFilesUseCase {
+
+    private final FileRepositoryPort fileRepositoryPort;
+    private final int maxPageSize;
+
+    public SearchFilesUseCase(FileRepositoryPort fileRepositoryPort,
+                              @Value("${files.listing.max-page-size:500}") int maxPageSize) {
+        this.fileRepositoryPort = fileRepositoryPort;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public SearchResult execute(UUID ownerId, String name, String type, String tag, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be non-negative and size positive");
+        }
+        int pageSize = Math.min(size, maxPageSize);
+
+        // Fetch one extra row to learn whether another page exists
+        var files = fileRepositoryPort.search(
+                new FileSearchQuery(ownerId, name, type, tag, Math.multiplyExact(page, pageSize), pageSize + 1));
+        boolean hasNext = files.size() > pageSize;
+        return new SearchResult(hasNext ? files.subList(0, pageSize) : files, page, pageSize, hasNext);
+    }
+
+    public record SearchResult(List<FileEntry> items, int page, int size, boolean hasNext) {
+    }
+}
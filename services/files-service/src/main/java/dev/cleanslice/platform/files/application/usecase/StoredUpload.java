@@ -0,0 +1,13 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Content already written to storage, waiting for its metadata to be committed.
+ *
+ * @param digest     SHA-256 of the content when stored content-addressed, otherwise null
+ * @param stagedIds  staged-upload records to release once the metadata is committed
+ */
+public record StoredUpload(String storageKey, long size, String digest, List<UUID> stagedIds) {
+}
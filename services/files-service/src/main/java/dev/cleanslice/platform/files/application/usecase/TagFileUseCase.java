@@ -0,0 +1,55 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileTagRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Use case for setting the tags of a file.
+ * Tags are trimmed and lower-cased so search can match them exactly.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagFileUseCase {
+
+    private static final int MAX_TAGS = 50;
+    private static final int MAX_TAG_LENGTH = 100;
+
+    private final FileRepositoryPort fileRepository;
+    private final FileTagRepositoryPort fileTagRepository;
+
+    @Transactional
+    public Set<String> execute(UUID fileId, Collection<String> tags) {
+        var file = fileRepository.findById(fileId)
+                .orElseThrow(() -> new IllegalArgumentException("File not found: " + fileId));
+        if (file.isDeleted()) {
+            throw new IllegalArgumentException("File is deleted: " + fileId);
+        }
+
+        var normalized = new TreeSet<String>();
+        for (var tag : tags) {
+            if (tag == null || tag.isBlank()) {
+                continue;
+            }
+            var value = tag.trim().toLowerCase(Locale.ROOT);
+            if (value.length() > MAX_TAG_LENGTH) {
+                throw new IllegalArgumentException("Tag longer than " + MAX_TAG_LENGTH + " characters: " + value);
+            }
+            normalized.add(value);
+        }
+        if (normalized.size() > MAX_TAGS) {
+            throw new IllegalArgumentException("A file can have at most " + MAX_TAGS + " tags");
+        }
+
+        fileTagRepository.replaceTags(fileId, normalized);
+        return normalized;
+    }
+}
@@ -1,90 +1,157 @@
 package dev.cleanslice.platform.files.application.usecase;
 
-import dev.cleanslice.platform.files.application.port.FileEventPublisherPort;
-import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
-import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.BlobRepositoryPort;
+import dev.cleanslice.platform.files.application.port.StagedUploadRepositoryPort;
 import dev.cleanslice.platform.files.application.port.StoragePort;
 import dev.cleanslice.platform.files.domain.FileEntry;
-import dev.cleanslice.platform.files.domain.FileVersion;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Use case for uploading files.
- * Supports versioning - if file with same name exists, creates new version.
+ * <p>
+ * Uploads run in two phases. The content is first written to storage outside any
+ * transaction, under a key that does not depend on the version number; then
+ * {@link FileUploadCommitter} records it in a short metadata transaction. Every key is
+ * registered as a staged upload before it is written, so objects whose metadata never
+ * commits are removed by {@link ReapStagedUploadsUseCase}.
+ * <p>
+ * In content-addressed mode every version is stored once per distinct content under
+ * {@code blobs/sha256/{digest}} and blobs are reference counted, so identical uploads
+ * (re-uploads or the same file across owners) share one object.
  */
 @Service
 public class UploadFileUseCase {
 
+    static final String BLOB_PREFIX = "blobs/sha256/";
+    private static final String UPLOAD_PREFIX = "uploads/";
+    private static final String STAGING_PREFIX = "staging/";
+
     private final StoragePort storagePort;
-    private final FileRepositoryPort fileRepositoryPort;
-    private final FileVersionRepositoryPort fileVersionRepositoryPort;
-    private final FileEventPublisherPort eventPublisherPort;
+    private final BlobRepositoryPort blobRepositoryPort;
+    private final StagedUploadRepositoryPort stagedUploadRepositoryPort;
+    private final FileUploadCommitter committer;
+    private final boolean contentAddressed;
 
     public UploadFileUseCase(StoragePort storagePort,
-                            FileRepositoryPort fileRepositoryPort,
-                            FileVersionRepositoryPort fileVersionRepositoryPort,
-                            FileEventPublisherPort eventPublisherPort) {
+                            BlobRepositoryPort blobRepositoryPort,
+                            StagedUploadRepositoryPort stagedUploadRepositoryPort,
+                            FileUploadCommitter committer,
+                            @Value("${storage.content-addressed.enabled:false}") boolean contentAddressed) {
         this.storagePort = storagePort;
-        this.fileRepositoryPort = fileRepositoryPort;
-        this.fileVersionRepositoryPort = fileVersionRepositoryPort;
-        this.eventPublisherPort = eventPublisherPort;
+        this.blobRepositoryPort = blobRepositoryPort;
+        this.stagedUploadRepositoryPort = stagedUploadRepositoryPort;
+        this.committer = committer;
+        this.contentAddressed = contentAddressed;
     }
 
-    @Transactional
-    public FileEntry execute(UUID ownerId, String filename, String contentType, long size, InputStream content) {
-        // Check if file with same name already exists
-        var existingFile = fileRepositoryPort.findByOwnerIdAndName(ownerId, filename);
-
-        FileEntry savedFile;
-        String storageKey;
-
-        if (existingFile.isPresent()) {
-            // Create new version
-            var file = existingFile.get();
-            int nextVersion = (fileVersionRepositoryPort.findMaxVersionNumberByFileId(file.getId()) != null)
-                    ? fileVersionRepositoryPort.findMaxVersionNumberByFileId(file.getId()) + 1 : 2;
-
-            storageKey = file.getId() + "/v" + nextVersion;
-
-            // Store file in S3/MinIO with versioned key
-            storagePort.put(storageKey, content, size, contentType);
-
-            // Create version record
-            var fileVersion = FileVersion.create(file.getId(), nextVersion, filename, contentType, size, storageKey, ownerId);
-            fileVersionRepositoryPort.save(fileVersion);
-
-            // Publish version uploaded event
-            eventPublisherPort.publishFileVersionUploaded(fileVersion);
-
-            // Update file entry
-            savedFile = fileRepositoryPort.save(file.updateToNewVersion(filename, contentType, size, nextVersion));
+    /**
+     * Uploads content of known size. The source may be opened more than once:
+     * in content-addressed mode it is hashed first so duplicates are never sent to storage.
+     */
+    public FileEntry execute(UUID ownerId, String filename, String contentType, long size, ContentSource content) {
+        StoredUpload stored;
+        try {
+            stored = contentAddressed ? storeBlob(content, size, contentType) : storeUpload(content, size, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read upload content", e);
+        }
+        return committer.commit(ownerId, filename, contentType, stored);
+    }
 
+    /**
+     * Uploads content of unknown length, piping it to storage as it is read.
+     * The stored size is taken from the number of bytes actually written.
+     */
+    public FileEntry executeStreaming(UUID ownerId, String filename, String contentType, InputStream content) {
+        StoredUpload stored;
+        if (contentAddressed) {
+            stored = storeStreamedBlob(content, contentType);
         } else {
-            // Create new file
-            var fileEntry = FileEntry.create(ownerId, filename, contentType, size);
-            storageKey = fileEntry.getId().toString();
+            String key = UPLOAD_PREFIX + UUID.randomUUID();
+            UUID stagedId = stagedUploadRepositoryPort.register(key);
+            stored = new StoredUpload(key, storagePort.putStream(key, content, contentType), null, List.of(stagedId));
+        }
+        return committer.commit(ownerId, filename, contentType, stored);
+    }
 
-            // Store file in S3/MinIO
-            storagePort.put(storageKey, content, size, contentType);
+    private StoredUpload storeUpload(ContentSource content, long size, String contentType) throws IOException {
+        String key = UPLOAD_PREFIX + UUID.randomUUID();
+        UUID stagedId = stagedUploadRepositoryPort.register(key);
+        try (var stream = content.open()) {
+            storagePort.put(key, stream, size, contentType);
+        }
+        return new StoredUpload(key, size, null, List.of(stagedId));
+    }
 
-            // Save metadata to database
-            savedFile = fileRepositoryPort.save(fileEntry);
+    private StoredUpload storeBlob(ContentSource content, long size, String contentType) throws IOException {
+        var digest = newDigest();
+        try (var stream = new DigestInputStream(content.open(), digest)) {
+            stream.transferTo(OutputStream.nullOutputStream());
+        }
+        String hex = HexFormat.of().formatHex(digest.digest());
+        String blobKey = BLOB_PREFIX + hex;
 
-            // Create initial version record
-            var fileVersion = FileVersion.create(savedFile.getId(), 1, filename, contentType, size, storageKey, ownerId);
-            fileVersionRepositoryPort.save(fileVersion);
+        // Known blob: only the reference count changes, nothing is sent to storage
+        if (blobRepositoryPort.exists(hex)) {
+            return new StoredUpload(blobKey, size, hex, List.of());
+        }
+        UUID stagedId = stagedUploadRepositoryPort.register(blobKey);
+        try (var stream = content.open()) {
+            storagePort.put(blobKey, stream, size, contentType);
+        }
+        return new StoredUpload(blobKey, size, hex, List.of(stagedId));
+    }
 
-            // Publish version uploaded event
-            eventPublisherPort.publishFileVersionUploaded(fileVersion);
+    /**
+     * A single-pass stream cannot be hashed before it is stored, so it is staged,
+     * hashed on the way through, and then moved to its blob key with a server-side copy.
+     */
+    private StoredUpload storeStreamedBlob(InputStream content, String contentType) {
+        var digest = newDigest();
+        String stagingKey = STAGING_PREFIX + UUID.randomUUID();
+        List<UUID> stagedIds = new ArrayList<>();
+        stagedIds.add(stagedUploadRepositoryPort.register(stagingKey));
+        long size = storagePort.putStream(stagingKey, new DigestInputStream(content, digest), contentType);
+        String hex = HexFormat.of().formatHex(digest.digest());
+        String blobKey = BLOB_PREFIX + hex;
+
+        try {
+            if (!blobRepositoryPort.exists(hex)) {
+                stagedIds.add(stagedUploadRepositoryPort.register(blobKey));
+                storagePort.copy(stagingKey, blobKey);
+            }
+        } finally {
+            storagePort.delete(stagingKey);
         }
+        return new StoredUpload(blobKey, size, hex, stagedIds);
+    }
 
-        // Publish event
-        eventPublisherPort.publishFileUploaded(savedFile);
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
-        return savedFile;
+    /**
+     * Re-openable upload content, e.g. a multipart file spooled by the servlet container.
+     */
+    @FunctionalInterface
+    public interface ContentSource {
+        InputStream open() throws IOException;
     }
 }
@@ -34,8 +34,13 @@ public class FileEntry {
 
     // Factory method for new files
     public static FileEntry create(UUID ownerId, String name, String contentType, long size) {
+        return create(UUID.randomUUID(), ownerId, name, contentType, size);
+    }
+
+    // Factory method for new files whose id is allocated before the content is stored
+    public static FileEntry create(UUID id, UUID ownerId, String name, String contentType, long size) {
         var now = Instant.now();
-        return new FileEntry(UUID.randomUUID(), ownerId, name, contentType, size, 1, now, now, false);
+        return new FileEntry(id, ownerId, name, contentType, size, 1, now, now, false);
     }
 
     // Business methods
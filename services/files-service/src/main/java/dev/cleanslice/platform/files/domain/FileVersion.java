@@ -15,12 +15,13 @@ public class FileVersion {
     private final String contentType;
     private final long size;
     private final String storageKey; // Key in MinIO/S3
+    private final String contentDigest; // SHA-256 hex, null unless stored content-addressed
     private final Instant createdAt;
     private final UUID createdBy;
 
     // Full constructor for reconstruction
     public FileVersion(UUID id, UUID fileId, int versionNumber, String name,
-                      String contentType, long size, String storageKey,
+                      String contentType, long size, String storageKey, String contentDigest,
                       Instant createdAt, UUID createdBy) {
         this.id = id;
         this.fileId = fileId;
@@ -29,15 +30,17 @@ public class FileVersion {
         this.contentType = contentType;
         this.size = size;
         this.storageKey = storageKey;
+        this.contentDigest = contentDigest;
         this.createdAt = createdAt;
         this.createdBy = createdBy;
     }
 
     // Factory method for new version
     public static FileVersion create(UUID fileId, int versionNumber, String name,
-                                   String contentType, long size, String storageKey, UUID createdBy) {
+                                   String contentType, long size, String storageKey,
+                                   String contentDigest, UUID createdBy) {
         return new FileVersion(UUID.randomUUID(), fileId, versionNumber, name,
-                             contentType, size, storageKey, Instant.now(), createdBy);
+                             contentType, size, storageKey, contentDigest, Instant.now(), createdBy);
     }
 
     // Getters
@@ -48,6 +51,7 @@ public class FileVersion {
     public String getContentType() { return contentType; }
     public long getSize() { return size; }
     public String getStorageKey() { return storageKey; }
+    public String getContentDigest() { return contentDigest; }
     public Instant getCreatedAt() { return createdAt; }
     public UUID getCreatedBy() { return createdBy; }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package dev.cleanslice.platform.files.infrastructure.cache;
+
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bounded in-memory LRU cache of presigned URLs.
+ * <p>
+ * An entry is served until {@code safety-margin} before the URL's signature expires,
+ * so a client never receives a URL that runs out while it is still downloading.
+ * A per-file index makes invalidation independent of cache size.
+ */
+@Component
+public class InMemoryPresignedUrlCache implements PresignedUrlCachePort {
+
+    private final Clock clock;
+    private final Duration reuseWindow;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+    private final Map<UUID, Set<String>> keysByFile = new HashMap<>();
+
+    @Autowired
+    public InMemoryPresignedUrlCache(
+            @Value("${storage.presign.ttl:1h}") Duration ttl,
+            @Value("${storage.presign.cache.safety-margin:5m}") Duration safetyMargin,
+            @Value("${storage.presign.cache.max-entries:10000}") int maxEntries) {
+        this(Clock.systemUTC(), ttl, safetyMargin, maxEntries);
+    }
+
+    InMemoryPresignedUrlCache(Clock clock, Duration ttl, Duration safetyMargin, int maxEntries) {
+        if (!safetyMargin.minus(ttl).isNegative()) {
+            throw new IllegalArgumentException("Presign cache safety margin must be shorter than the URL TTL");
+        }
+        this.clock = clock;
+        this.reuseWindow = ttl.minus(safetyMargin);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public synchronized Optional<String> get(String cacheKey) {
+        var entry = entries.get(cacheKey);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entry.reuseUntil())) {
+            remove(cacheKey);
+            return Optional.empty();
+        }
+        return Optional.of(entry.url());
+    }
+
+    @Override
+    public synchronized void put(String cacheKey, UUID fileId, String url) {
+        remove(cacheKey);
+        entries.put(cacheKey, new Entry(fileId, url, clock.instant().plus(reuseWindow)));
+        keysByFile.computeIfAbsent(fileId, id -> new HashSet<>()).add(cacheKey);
+
+        if (entries.size() > maxEntries) {
+            remove(entries.keySet().iterator().next()); // least recently used
+        }
+    }
+
+    @Override
+    public synchronized void invalidateFile(UUID fileId) {
+        var keys = keysByFile.remove(fileId);
+        if (keys != null) {
+            keys.forEach(entries::remove);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void remove(String cacheKey) {
+        var entry = entries.remove(cacheKey);
+        if (entry == null) {
+            return;
+        }
+        var keys = keysByFile.get(entry.fileId());
+        if (keys != null) {
+            keys.remove(cacheKey);
+            if (keys.isEmpty()) {
+                keysByFile.remove(entry.fileId());
+            }
+        }
+    }
+
+    private record Entry(UUID fileId, String url, Instant reuseUntil) {
+    }
+}
@@ -0,0 +1,32 @@
+package dev.cleanslice.platform.files.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Scheduler for the blocking JPA and S3 calls behind the reactive API.
+ * Keeps that work off the request threads and caps how much of it runs at once.
+ * In virtual-thread mode each task gets its own virtual thread instead; the
+ * connection pool and S3 client then bound concurrency.
+ */
+@Configuration
+public class ReactiveSchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${reactive.blocking.max-threads:64}") int maxThreads,
+            @Value("${reactive.blocking.max-queued-tasks:1000}") int maxQueuedTasks) {
+        if (virtualThreads) {
+            return Schedulers.fromExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("files-blocking-", 0).factory()),
+                    "files-blocking");
+        }
+        return Schedulers.newBoundedElastic(maxThreads, maxQueuedTasks, "files-blocking");
+    }
+}
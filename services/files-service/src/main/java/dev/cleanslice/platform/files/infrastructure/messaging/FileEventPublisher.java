@@ -6,24 +6,23 @@ import dev.cleanslice.platform.files.domain.FileVersion;
 import dev.cleanslice.platform.common.events.FileUploadedEvent;
 import dev.cleanslice.platform.common.events.FileVersionUploadedEvent;
 import dev.cleanslice.platform.common.events.FileDeletedEvent;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.springframework.kafka.core.KafkaTemplate;
+import dev.cleanslice.platform.common.infra.outbox.OutboxWriter;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 /**
  * Kafka implementation of FileEventPublisherPort.
+ * Events go through the transactional outbox and reach Kafka after the use case commits.
  */
 @Component
 public class FileEventPublisher implements FileEventPublisherPort {
 
     private static final String TOPIC = "files.events.v1";
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outbox;
 
-    public FileEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public FileEventPublisher(OutboxWriter outbox) {
+        this.outbox = outbox;
     }
 
     @Override
@@ -36,9 +35,7 @@ public class FileEventPublisher implements FileEventPublisherPort {
             fileEntry.getContentType()
         );
 
-        ProducerRecord<String, Object> rec = new ProducerRecord<>(TOPIC, fileEntry.getId().toString(), event);
-        rec.headers().add("__TypeId__", FileUploadedEvent.class.getName().getBytes(StandardCharsets.UTF_8));
-        kafkaTemplate.send(rec);
+        outbox.append(TOPIC, fileEntry.getId().toString(), event);
     }
 
     @Override
@@ -53,16 +50,12 @@ public class FileEventPublisher implements FileEventPublisherPort {
             fileVersion.getSize()
         );
 
-        ProducerRecord<String, Object> rec = new ProducerRecord<>(TOPIC, fileVersion.getFileId().toString(), event);
-        rec.headers().add("__TypeId__", FileVersionUploadedEvent.class.getName().getBytes(StandardCharsets.UTF_8));
-        kafkaTemplate.send(rec);
+        outbox.append(TOPIC, fileVersion.getFileId().toString(), event);
     }
 
     @Override
     public void publishFileDeleted(UUID fileId) {
         var event = new FileDeletedEvent(fileId, "deleted-by-user");
-        ProducerRecord<String, Object> rec = new ProducerRecord<>(TOPIC, fileId.toString(), event);
-        rec.headers().add("__TypeId__", FileDeletedEvent.class.getName().getBytes(StandardCharsets.UTF_8));
-        kafkaTemplate.send(rec);
+        outbox.append(TOPIC, fileId.toString(), event);
     }
 }
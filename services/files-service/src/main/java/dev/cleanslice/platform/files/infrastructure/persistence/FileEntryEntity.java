@@ -12,7 +12,9 @@ import java.util.UUID;
  * Separate from domain model to maintain clean architecture.
  */
 @Entity
-@Table(name = "file_entries")
+@Table(name = "file_entries", indexes = {
+        @Index(name = "idx_file_entries_owner_updated", columnList = "owner_id, updated_at DESC, id DESC")
+})
 @Getter
 @Setter
 public class FileEntryEntity {
@@ -1,7 +1,10 @@
 package dev.cleanslice.platform.files.infrastructure.persistence;
 
+import dev.cleanslice.platform.files.application.port.FileCursor;
 import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileSearchQuery;
 import dev.cleanslice.platform.files.domain.FileEntry;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -40,20 +43,16 @@ public class FileRepositoryAdapter implements FileRepositoryPort {
     }
 
     @Override
-    public List<FileEntry> findByOwnerId(UUID ownerId) {
-        return jpaRepository.findByOwnerId(ownerId).stream().map(mapper::toDomain).toList();
+    public List<FileEntry> findByOwnerId(UUID ownerId, FileCursor after, int limit) {
+        var entities = after == null
+                ? jpaRepository.findFirstPageByOwnerId(ownerId, Limit.of(limit))
+                : jpaRepository.findPageByOwnerIdAfter(ownerId, after.updatedAt(), after.id(), Limit.of(limit));
+        return entities.stream().map(mapper::toDomain).toList();
     }
 
     @Override
-    public List<FileEntry> search(String name, String tag, String type) {
-        // Basic search on name and contentType (type maps to contentType here)
-        String searchName = (name == null) ? "" : name;
-        String searchContentType = (type == null) ? "" : type;
-        return jpaRepository
-                .findByNameContainingIgnoreCaseOrContentTypeContainingIgnoreCase(searchName, searchContentType)
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+    public List<FileEntry> search(FileSearchQuery query) {
+        return jpaRepository.search(query).stream().map(mapper::toDomain).toList();
     }
 
     @Override
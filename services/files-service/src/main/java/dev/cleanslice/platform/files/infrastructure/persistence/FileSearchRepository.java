@@ -0,0 +1,13 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.application.port.FileSearchQuery;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for ranked file search.
+ */
+public interface FileSearchRepository {
+
+    List<FileEntryEntity> search(FileSearchQuery query);
+}
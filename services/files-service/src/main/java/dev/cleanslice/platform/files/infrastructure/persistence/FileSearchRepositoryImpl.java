@@ -0,0 +1,86 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.application.port.FileSearchQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria-based implementation of ranked file search.
+ * <p>
+ * Only the filters that are present become predicates, so the planner sees a plain
+ * owner-scoped query it can serve from indexes: the owner/updated index, and in
+ * Postgres the trigram index on {@code lower(name)} for prefix and substring matches.
+ */
+class FileSearchRepositoryImpl implements FileSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FileEntryEntity> search(FileSearchQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        var criteria = cb.createQuery(FileEntryEntity.class);
+        Root<FileEntryEntity> file = criteria.from(FileEntryEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(file.get("ownerId"), query.ownerId()));
+        predicates.add(cb.isFalse(file.get("deleted")));
+
+        Expression<String> lowerName = cb.lower(file.get("name"));
+        String name = normalize(query.name());
+        if (name != null) {
+            predicates.add(cb.like(lowerName, "%" + escapeLike(name) + "%", LIKE_ESCAPE));
+        }
+
+        String type = normalize(query.type());
+        if (type != null) {
+            predicates.add(cb.like(cb.lower(file.get("contentType")), escapeLike(type) + "%", LIKE_ESCAPE));
+        }
+
+        String tag = normalize(query.tag());
+        if (tag != null) {
+            var tagQuery = criteria.subquery(Integer.class);
+            var fileTag = tagQuery.from(FileTagEntity.class);
+            tagQuery.select(cb.literal(1)).where(
+                    cb.equal(fileTag.get("fileId"), file.get("id")),
+                    cb.equal(fileTag.get("tag"), tag));
+            predicates.add(cb.exists(tagQuery));
+        }
+
+        criteria.select(file).where(predicates.toArray(Predicate[]::new));
+
+        if (name != null) {
+            // Exact name, then prefix, then substring; newest first within each rank
+            Expression<Integer> rank = cb.<Integer>selectCase()
+                    .when(cb.equal(lowerName, name), 0)
+                    .when(cb.like(lowerName, escapeLike(name) + "%", LIKE_ESCAPE), 1)
+                    .otherwise(2);
+            criteria.orderBy(cb.asc(rank), cb.desc(file.get("updatedAt")), cb.desc(file.get("id")));
+        } else {
+            criteria.orderBy(cb.desc(file.get("updatedAt")), cb.desc(file.get("id")));
+        }
+
+        return entityManager.createQuery(criteria)
+                .setFirstResult(query.offset())
+                .setMaxResults(query.limit())
+                .getResultList();
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,41 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * JPA entity for a tag attached to a file.
+ */
+@Entity
+@Table(name = "file_tags", indexes = {
+        @Index(name = "idx_file_tags_tag", columnList = "tag, file_id")
+})
+@IdClass(FileTagEntity.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileTagEntity {
+
+    @Id
+    private UUID fileId;
+
+    @Id
+    @Column(length = 100)
+    private String tag;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID fileId;
+        private String tag;
+    }
+}
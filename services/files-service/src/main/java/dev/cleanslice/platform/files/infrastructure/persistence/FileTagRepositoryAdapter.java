@@ -0,0 +1,33 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.application.port.FileTagRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing FileTagRepositoryPort using JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileTagRepositoryAdapter implements FileTagRepositoryPort {
+
+    private final JpaFileTagRepository jpaRepository;
+
+    @Override
+    public Set<String> findByFileId(UUID fileId) {
+        return jpaRepository.findByFileId(fileId).stream()
+                .map(FileTagEntity::getTag)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Override
+    public void replaceTags(UUID fileId, Set<String> tags) {
+        jpaRepository.deleteByFileId(fileId);
+        jpaRepository.saveAll(tags.stream().map(tag -> new FileTagEntity(fileId, tag)).toList());
+    }
+}
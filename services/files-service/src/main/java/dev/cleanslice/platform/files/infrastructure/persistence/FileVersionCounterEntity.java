@@ -0,0 +1,23 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * JPA entity holding the last allocated version number of a file.
+ */
+@Entity
+@Table(name = "file_version_counters")
+@Getter
+@Setter
+public class FileVersionCounterEntity {
+
+    @Id
+    private UUID fileId;
+
+    @Column(nullable = false)
+    private int lastVersion;
+}
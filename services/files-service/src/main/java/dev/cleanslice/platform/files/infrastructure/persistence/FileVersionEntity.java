@@ -11,7 +11,8 @@ import java.util.UUID;
  * JPA entity for file versions.
  */
 @Entity
-@Table(name = "file_versions")
+@Table(name = "file_versions", uniqueConstraints = @UniqueConstraint(
+        name = "uk_file_versions_file_version", columnNames = {"file_id", "version_number"}))
 @Getter
 @Setter
 public class FileVersionEntity {
@@ -37,6 +38,9 @@ public class FileVersionEntity {
     @Column(nullable = false, length = 500)
     private String storageKey;
 
+    @Column(length = 64)
+    private String contentDigest;
+
     @Column(nullable = false)
     private Instant createdAt;
 
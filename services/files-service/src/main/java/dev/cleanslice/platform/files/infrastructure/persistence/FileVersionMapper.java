@@ -18,6 +18,7 @@ public class FileVersionMapper {
         entity.setContentType(domain.getContentType());
         entity.setSize(domain.getSize());
         entity.setStorageKey(domain.getStorageKey());
+        entity.setContentDigest(domain.getContentDigest());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setCreatedBy(domain.getCreatedBy());
         return entity;
@@ -32,6 +33,7 @@ public class FileVersionMapper {
             entity.getContentType(),
             entity.getSize(),
             entity.getStorageKey(),
+            entity.getContentDigest(),
             entity.getCreatedAt(),
             entity.getCreatedBy()
         );
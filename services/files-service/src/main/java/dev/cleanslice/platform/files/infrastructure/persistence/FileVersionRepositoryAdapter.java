@@ -5,18 +5,23 @@ import dev.cleanslice.platform.files.domain.FileVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Adapter implementing FileVersionRepositoryPort using JPA.
+ * Version numbers come from a per-file counter row: the increment takes the row lock,
+ * so concurrent uploads to the same file are serialized on that row only and each
+ * sees its own number on the follow-up read.
  */
 @Component
 @RequiredArgsConstructor
 public class FileVersionRepositoryAdapter implements FileVersionRepositoryPort {
 
     private final JpaFileVersionRepository jpaRepository;
+    private final JpaFileVersionCounterRepository counterRepository;
     private final FileVersionMapper mapper;
 
     @Override
@@ -31,6 +36,11 @@ public class FileVersionRepositoryAdapter implements FileVersionRepositoryPort {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
+    @Override
+    public List<FileVersion> findVersionsOfLiveFiles(Collection<UUID> ids) {
+        return jpaRepository.findVersionsOfLiveFiles(ids).stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     public List<FileVersion> findByFileId(UUID fileId) {
         return jpaRepository.findByFileIdOrderByVersionNumberDesc(fileId)
@@ -40,7 +50,27 @@ public class FileVersionRepositoryAdapter implements FileVersionRepositoryPort {
     }
 
     @Override
-    public Integer findMaxVersionNumberByFileId(UUID fileId) {
-        return jpaRepository.findMaxVersionNumberByFileId(fileId);
+    public Optional<FileVersion> findByFileIdAndVersionNumber(UUID fileId, int versionNumber) {
+        return jpaRepository.findByFileIdAndVersionNumber(fileId, versionNumber).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<FileVersion> findCurrentVersionsOfLiveFiles(Collection<UUID> fileIds) {
+        return jpaRepository.findCurrentVersionsOfLiveFiles(fileIds).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public void startVersionNumbering(UUID fileId) {
+        counterRepository.insertFirst(fileId);
+    }
+
+    @Override
+    public int allocateVersionNumber(UUID fileId) {
+        if (counterRepository.increment(fileId) == 0) {
+            // File created before counters existed
+            counterRepository.insertFromExistingVersions(fileId);
+            counterRepository.increment(fileId);
+        }
+        return counterRepository.findLastVersion(fileId);
     }
 }
\ No newline at end of file
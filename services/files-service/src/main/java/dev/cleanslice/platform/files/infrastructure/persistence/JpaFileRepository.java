@@ -1,16 +1,28 @@
 package dev.cleanslice.platform.files.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
  * Spring Data JPA repository for FileEntryEntity.
  */
 @Repository
-public interface JpaFileRepository extends JpaRepository<FileEntryEntity, UUID> {
-	java.util.List<FileEntryEntity> findByOwnerId(UUID ownerId);
+public interface JpaFileRepository extends JpaRepository<FileEntryEntity, UUID>, FileSearchRepository {
+	@Query("SELECT f FROM FileEntryEntity f WHERE f.ownerId = :ownerId ORDER BY f.updatedAt DESC, f.id DESC")
+	java.util.List<FileEntryEntity> findFirstPageByOwnerId(@Param("ownerId") UUID ownerId, Limit limit);
+
+	@Query("SELECT f FROM FileEntryEntity f WHERE f.ownerId = :ownerId " +
+	       "AND (f.updatedAt < :updatedAt OR (f.updatedAt = :updatedAt AND f.id < :id)) " +
+	       "ORDER BY f.updatedAt DESC, f.id DESC")
+	java.util.List<FileEntryEntity> findPageByOwnerIdAfter(@Param("ownerId") UUID ownerId,
+	                                                       @Param("updatedAt") Instant updatedAt,
+	                                                       @Param("id") UUID id,
+	                                                       Limit limit);
 	java.util.Optional<FileEntryEntity> findByOwnerIdAndName(UUID ownerId, String name);
-	java.util.List<FileEntryEntity> findByNameContainingIgnoreCaseOrContentTypeContainingIgnoreCase(String name, String contentType);
 }
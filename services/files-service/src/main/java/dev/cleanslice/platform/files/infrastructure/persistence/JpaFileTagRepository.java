@@ -0,0 +1,23 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for FileTagEntity.
+ */
+@Repository
+public interface JpaFileTagRepository extends JpaRepository<FileTagEntity, FileTagEntity.Key> {
+
+    List<FileTagEntity> findByFileId(UUID fileId);
+
+    @Modifying
+    @Query("DELETE FROM FileTagEntity t WHERE t.fileId = :fileId")
+    void deleteByFileId(@Param("fileId") UUID fileId);
+}
@@ -0,0 +1,40 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for FileVersionCounterEntity.
+ */
+@Repository
+public interface JpaFileVersionCounterRepository extends JpaRepository<FileVersionCounterEntity, UUID> {
+
+    @Modifying
+    @Query("UPDATE FileVersionCounterEntity c SET c.lastVersion = c.lastVersion + 1 WHERE c.fileId = :fileId")
+    int increment(@Param("fileId") UUID fileId);
+
+    @Query("SELECT c.lastVersion FROM FileVersionCounterEntity c WHERE c.fileId = :fileId")
+    int findLastVersion(@Param("fileId") UUID fileId);
+
+    @Modifying
+    @Query(value = "INSERT INTO file_version_counters (file_id, last_version) VALUES (:fileId, 1)",
+           nativeQuery = true)
+    void insertFirst(@Param("fileId") UUID fileId);
+
+    /**
+     * Creates the counter of a file that predates counters from its highest stored version.
+     * Does nothing if a concurrent upload created it first; the caller's increment then
+     * waits for that upload to commit.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_version_counters (file_id, last_version) " +
+                   "SELECT :fileId, COALESCE(MAX(version_number), 1) FROM file_versions WHERE file_id = :fileId " +
+                   "ON CONFLICT (file_id) DO NOTHING",
+           nativeQuery = true)
+    void insertFromExistingVersions(@Param("fileId") UUID fileId);
+}
@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -16,6 +18,14 @@ public interface JpaFileVersionRepository extends JpaRepository<FileVersionEntit
 
     List<FileVersionEntity> findByFileIdOrderByVersionNumberDesc(UUID fileId);
 
-    @Query("SELECT MAX(v.versionNumber) FROM FileVersionEntity v WHERE v.fileId = :fileId")
-    Integer findMaxVersionNumberByFileId(@Param("fileId") UUID fileId);
+    Optional<FileVersionEntity> findByFileIdAndVersionNumber(UUID fileId, int versionNumber);
+
+    @Query("SELECT v FROM FileVersionEntity v, FileEntryEntity f " +
+           "WHERE f.id IN :fileIds AND f.deleted = false " +
+           "AND v.fileId = f.id AND v.versionNumber = f.currentVersion")
+    List<FileVersionEntity> findCurrentVersionsOfLiveFiles(@Param("fileIds") Collection<UUID> fileIds);
+
+    @Query("SELECT v FROM FileVersionEntity v, FileEntryEntity f " +
+           "WHERE v.id IN :ids AND v.fileId = f.id AND f.deleted = false")
+    List<FileVersionEntity> findVersionsOfLiveFiles(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
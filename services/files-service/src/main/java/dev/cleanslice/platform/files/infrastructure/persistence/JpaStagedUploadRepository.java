@@ -0,0 +1,20 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for StagedUploadEntity.
+ */
+@Repository
+public interface JpaStagedUploadRepository extends JpaRepository<StagedUploadEntity, UUID> {
+
+    List<StagedUploadEntity> findByCreatedAtBeforeOrderByCreatedAt(Instant cutoff, Limit limit);
+
+    boolean existsByStorageKeyAndCreatedAtAfter(String storageKey, Instant since);
+}
@@ -0,0 +1,28 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Spring Data JPA repository for StorageBlobEntity.
+ */
+@Repository
+public interface JpaStorageBlobRepository extends JpaRepository<StorageBlobEntity, String> {
+
+    /**
+     * Records the blob with one reference, or adds one to an existing blob. A concurrent
+     * insert of the same digest waits for the other to commit and then increments it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO storage_blobs (digest, size, ref_count, created_at) " +
+                   "VALUES (:digest, :size, 1, :createdAt) " +
+                   "ON CONFLICT (digest) DO UPDATE SET ref_count = storage_blobs.ref_count + 1",
+           nativeQuery = true)
+    void upsertReference(@Param("digest") String digest, @Param("size") long size,
+                         @Param("createdAt") Instant createdAt);
+}
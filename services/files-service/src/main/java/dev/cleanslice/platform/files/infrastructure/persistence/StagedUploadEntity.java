@@ -0,0 +1,29 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for storage objects whose metadata has not been committed yet.
+ */
+@Entity
+@Table(name = "staged_uploads", indexes = {
+        @Index(name = "idx_staged_uploads_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+public class StagedUploadEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 500)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
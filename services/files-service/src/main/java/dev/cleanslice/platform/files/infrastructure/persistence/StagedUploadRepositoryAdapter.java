@@ -0,0 +1,46 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.application.port.StagedUploadRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing StagedUploadRepositoryPort using JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class StagedUploadRepositoryAdapter implements StagedUploadRepositoryPort {
+
+    private final JpaStagedUploadRepository jpaRepository;
+
+    @Override
+    public UUID register(String storageKey) {
+        var entity = new StagedUploadEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setStorageKey(storageKey);
+        entity.setCreatedAt(Instant.now());
+        return jpaRepository.save(entity).getId();
+    }
+
+    @Override
+    public void release(UUID id) {
+        jpaRepository.deleteById(id);
+    }
+
+    @Override
+    public List<StagedUpload> findRegisteredBefore(Instant cutoff, int limit) {
+        return jpaRepository.findByCreatedAtBeforeOrderByCreatedAt(cutoff, Limit.of(limit)).stream()
+                .map(e -> new StagedUpload(e.getId(), e.getStorageKey(), e.getCreatedAt()))
+                .toList();
+    }
+
+    @Override
+    public boolean isRegisteredSince(String storageKey, Instant since) {
+        return jpaRepository.existsByStorageKeyAndCreatedAtAfter(storageKey, since);
+    }
+}
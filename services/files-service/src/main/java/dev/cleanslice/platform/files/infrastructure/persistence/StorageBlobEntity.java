@@ -0,0 +1,30 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for content-addressed blobs, keyed by SHA-256 digest.
+ */
+@Entity
+@Table(name = "storage_blobs")
+@Getter
+@Setter
+public class StorageBlobEntity {
+
+    @Id
+    @Column(length = 64)
+    private String digest;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private long refCount;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,29 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.application.port.BlobRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Adapter implementing BlobRepositoryPort using JPA.
+ * A reference is a single upsert, so concurrent references to the same blob, including
+ * the first ones, never lose a count or fail on the primary key.
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageBlobRepositoryAdapter implements BlobRepositoryPort {
+
+    private final JpaStorageBlobRepository jpaRepository;
+
+    @Override
+    public boolean exists(String digest) {
+        return jpaRepository.existsById(digest);
+    }
+
+    @Override
+    public void addReference(String digest, long size) {
+        jpaRepository.upsertReference(digest, size, Instant.now());
+    }
+}
@@ -1,13 +1,17 @@
 package dev.cleanslice.platform.files.infrastructure.rest;
 
+import dev.cleanslice.platform.files.application.port.UploadTooLargeException;
 import dev.cleanslice.platform.files.application.usecase.DeleteFileUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetDownloadUrlUseCase;
+import dev.cleanslice.platform.files.application.usecase.GetDownloadUrlsUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetFileVersionDownloadUrlUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetFileVersionUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetFileVersionsUseCase;
+import dev.cleanslice.platform.files.application.usecase.ListOwnerFilesUseCase;
 import dev.cleanslice.platform.files.application.usecase.RestoreFileVersionUseCase;
+import dev.cleanslice.platform.files.application.usecase.SearchFilesUseCase;
+import dev.cleanslice.platform.files.application.usecase.TagFileUseCase;
 import dev.cleanslice.platform.files.application.usecase.UploadFileUseCase;
-import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
 import dev.cleanslice.platform.files.infrastructure.config.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,10 +19,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,12 +40,15 @@ public class FileController {
 
     private final UploadFileUseCase uploadFileUseCase;
     private final GetDownloadUrlUseCase getDownloadUrlUseCase;
+    private final GetDownloadUrlsUseCase getDownloadUrlsUseCase;
+    private final ListOwnerFilesUseCase listOwnerFilesUseCase;
+    private final SearchFilesUseCase searchFilesUseCase;
+    private final TagFileUseCase tagFileUseCase;
     private final GetFileVersionsUseCase getFileVersionsUseCase;
     private final GetFileVersionDownloadUrlUseCase getFileVersionDownloadUrlUseCase;
     private final GetFileVersionUseCase getFileVersionUseCase;
     private final RestoreFileVersionUseCase restoreFileVersionUseCase;
     private final DeleteFileUseCase deleteFileUseCase;
-    private final FileRepositoryPort fileRepositoryPort;
     private final FileMapper fileMapper;
 
     private static final UUID DEFAULT_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
@@ -85,7 +94,7 @@ public class FileController {
                     file.getOriginalFilename(),
                     file.getContentType(),
                     file.getSize(),
-                    file.getInputStream()
+                    file::getInputStream
             );
             return ResponseEntity.status(HttpStatus.CREATED).body(fileMapper.toUploadResponse(fileEntry));
         } catch (Exception e) {
@@ -94,6 +103,33 @@ public class FileController {
         }
     }
 
+    @PostMapping("/stream")
+    @Operation(summary = "Upload a file by streaming the raw request body (not multipart)")
+    public ResponseEntity<FileDtos.UploadResponse> uploadFileStream(
+            @RequestParam("filename") String filename,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        if (filename.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            var userId = getCurrentUserId();
+            var fileEntry = uploadFileUseCase.executeStreaming(
+                    userId,
+                    filename,
+                    contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                    body
+            );
+            return ResponseEntity.status(HttpStatus.CREATED).body(fileMapper.toUploadResponse(fileEntry));
+        } catch (UploadTooLargeException e) {
+            log.warn("Rejected streamed upload of {}: {}", filename, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        } catch (Exception e) {
+            log.error("Error streaming file upload", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/{id}/download")
     @Operation(summary = "Get download URL for a file")
     public ResponseEntity<Void> getDownloadUrl(@PathVariable UUID id) {
@@ -105,6 +141,17 @@ public class FileController {
         }
     }
 
+    @PostMapping("/download-urls")
+    @Operation(summary = "Get presigned download URLs for many files and versions at once")
+    public ResponseEntity<FileDtos.DownloadUrlsResponse> getDownloadUrls(@RequestBody FileDtos.DownloadUrlsRequest request) {
+        try {
+            var urls = getDownloadUrlsUseCase.execute(request.fileIds(), request.versionIds());
+            return ResponseEntity.ok(fileMapper.toDownloadUrlsResponse(urls));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a file (soft delete)")
     public ResponseEntity<Void> deleteFile(@PathVariable UUID id) {
@@ -117,20 +164,42 @@ public class FileController {
     }
 
     @GetMapping("/owner/{ownerId}")
-    @Operation(summary = "Get all files by owner")
-    public ResponseEntity<List<FileDtos.FileResponse>> getFilesByOwner(@PathVariable UUID ownerId) {
-        var files = fileRepositoryPort.findByOwnerId(ownerId);
-        var results = files.stream().map(fileMapper::toFileResponse).toList();
-        return ResponseEntity.ok(results);
+    @Operation(summary = "Get a page of files by owner, most recently updated first")
+    public ResponseEntity<FileDtos.FilePageResponse> getFilesByOwner(@PathVariable UUID ownerId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer limit) {
+        try {
+            var page = listOwnerFilesUseCase.execute(ownerId, cursor, limit);
+            return ResponseEntity.ok(fileMapper.toFilePageResponse(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search files by name or type")
-    public ResponseEntity<List<FileDtos.FileResponse>> searchFiles(@RequestParam(required = false) String name,
-                                                                 @RequestParam(required = false) String type) {
-        var files = fileRepositoryPort.search(name, null, type);
-        var results = files.stream().map(fileMapper::toFileResponse).toList();
-        return ResponseEntity.ok(results);
+    @Operation(summary = "Search the current user's files by name, type and tag, best matches first")
+    public ResponseEntity<FileDtos.SearchResponse> searchFiles(@RequestParam(required = false) String name,
+                                                               @RequestParam(required = false) String type,
+                                                               @RequestParam(required = false) String tag,
+                                                               @RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        try {
+            var result = searchFilesUseCase.execute(getCurrentUserId(), name, type, tag, page, size);
+            return ResponseEntity.ok(fileMapper.toSearchResponse(result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/{id}/tags")
+    @Operation(summary = "Replace the tags of a file")
+    public ResponseEntity<FileDtos.TagsResponse> setTags(@PathVariable UUID id, @RequestBody FileDtos.TagsRequest request) {
+        try {
+            var tags = tagFileUseCase.execute(id, request.tags() == null ? List.of() : request.tags());
+            return ResponseEntity.ok(fileMapper.toTagsResponse(id, tags));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}/versions")
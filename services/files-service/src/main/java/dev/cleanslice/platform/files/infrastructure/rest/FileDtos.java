@@ -1,6 +1,9 @@
 package dev.cleanslice.platform.files.infrastructure.rest;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * DTOs for file service responses.
@@ -26,6 +29,27 @@ public class FileDtos {
             String createdBy
     ) {}
 
+    public record FilePageResponse(
+            List<FileResponse> items,
+            String nextCursor
+    ) {}
+
+    public record SearchResponse(
+            List<FileResponse> items,
+            int page,
+            int size,
+            boolean hasNext
+    ) {}
+
+    public record TagsRequest(
+            List<String> tags
+    ) {}
+
+    public record TagsResponse(
+            String fileId,
+            List<String> tags
+    ) {}
+
     public record UploadResponse(
             String fileId,
             String filename,
@@ -40,4 +64,15 @@ public class FileDtos {
             long size,
             String contentType
     ) {}
+
+    public record DownloadUrlsRequest(
+            List<UUID> fileIds,
+            List<UUID> versionIds
+    ) {}
+
+    public record DownloadUrlsResponse(
+            Map<String, String> files,
+            Map<String, String> versions,
+            List<String> notFound
+    ) {}
 }
\ No newline at end of file
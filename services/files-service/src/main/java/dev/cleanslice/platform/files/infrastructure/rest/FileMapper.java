@@ -1,10 +1,19 @@
 package dev.cleanslice.platform.files.infrastructure.rest;
 
+import dev.cleanslice.platform.files.application.port.FilePage;
+import dev.cleanslice.platform.files.application.usecase.GetDownloadUrlsUseCase;
+import dev.cleanslice.platform.files.application.usecase.SearchFilesUseCase;
 import dev.cleanslice.platform.files.domain.FileEntry;
 import dev.cleanslice.platform.files.domain.FileVersion;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * MapStruct mapper for converting domain objects to DTOs.
  */
@@ -28,4 +37,35 @@ public interface FileMapper {
     @Mapping(target = "fileId", expression = "java(fileEntry.getId().toString())")
     @Mapping(target = "filename", source = "name")
     FileDtos.RestoreResponse toRestoreResponse(FileEntry fileEntry);
+
+    default FileDtos.FilePageResponse toFilePageResponse(FilePage page) {
+        return new FileDtos.FilePageResponse(
+                page.items().stream().map(this::toFileResponse).toList(),
+                page.hasNext() ? page.nextCursor().encode() : null);
+    }
+
+    default FileDtos.SearchResponse toSearchResponse(SearchFilesUseCase.SearchResult result) {
+        return new FileDtos.SearchResponse(
+                result.items().stream().map(this::toFileResponse).toList(),
+                result.page(),
+                result.size(),
+                result.hasNext());
+    }
+
+    default FileDtos.TagsResponse toTagsResponse(UUID fileId, Set<String> tags) {
+        return new FileDtos.TagsResponse(fileId.toString(), List.copyOf(tags));
+    }
+
+    default FileDtos.DownloadUrlsResponse toDownloadUrlsResponse(GetDownloadUrlsUseCase.DownloadUrls urls) {
+        return new FileDtos.DownloadUrlsResponse(
+                toStringKeys(urls.files()),
+                toStringKeys(urls.versions()),
+                urls.notFound().stream().map(UUID::toString).toList());
+    }
+
+    private static Map<String, String> toStringKeys(Map<UUID, String> urls) {
+        var result = new LinkedHashMap<String, String>();
+        urls.forEach((id, url) -> result.put(id.toString(), url));
+        return result;
+    }
 }
\ No newline at end of file
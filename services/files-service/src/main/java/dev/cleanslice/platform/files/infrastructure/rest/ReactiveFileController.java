@@ -3,12 +3,17 @@ package dev.cleanslice.platform.files.infrastructure.rest;
 import dev.cleanslice.platform.common.api.ApiResponse;
 import dev.cleanslice.platform.files.application.usecase.DeleteFileUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetDownloadUrlUseCase;
+import dev.cleanslice.platform.files.application.usecase.GetDownloadUrlsUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetFileVersionDownloadUrlUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetFileVersionUseCase;
 import dev.cleanslice.platform.files.application.usecase.GetFileVersionsUseCase;
+import dev.cleanslice.platform.files.application.usecase.ListOwnerFilesUseCase;
 import dev.cleanslice.platform.files.application.usecase.RestoreFileVersionUseCase;
+import dev.cleanslice.platform.files.application.usecase.SearchFilesUseCase;
+import dev.cleanslice.platform.files.application.usecase.TagFileUseCase;
 import dev.cleanslice.platform.files.application.usecase.UploadFileUseCase;
-import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FilePage;
+import dev.cleanslice.platform.files.application.port.UploadTooLargeException;
 import dev.cleanslice.platform.files.infrastructure.config.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,17 +21,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Reactive REST controller for file operations.
- * Provides non-blocking endpoints using Spring WebFlux.
+ * Provides non-blocking endpoints using Spring WebFlux. The use cases behind them
+ * still block on JPA and S3, so every call is subscribed on the bounded
+ * {@code blockingScheduler} and never runs on a request thread.
  */
 @RestController
 @RequestMapping("/api/v2/files")
@@ -37,14 +48,20 @@ public class ReactiveFileController {
 
     private final UploadFileUseCase uploadFileUseCase;
     private final GetDownloadUrlUseCase getDownloadUrlUseCase;
+    private final GetDownloadUrlsUseCase getDownloadUrlsUseCase;
+    private final ListOwnerFilesUseCase listOwnerFilesUseCase;
+    private final SearchFilesUseCase searchFilesUseCase;
+    private final TagFileUseCase tagFileUseCase;
     private final GetFileVersionsUseCase getFileVersionsUseCase;
     private final GetFileVersionDownloadUrlUseCase getFileVersionDownloadUrlUseCase;
     private final GetFileVersionUseCase getFileVersionUseCase;
     private final RestoreFileVersionUseCase restoreFileVersionUseCase;
     private final DeleteFileUseCase deleteFileUseCase;
-    private final FileRepositoryPort fileRepositoryPort;
     private final FileMapper fileMapper;
+    private final Scheduler blockingScheduler;
 
+    // Rows fetched per query while streaming; capped by files.listing.max-page-size
+    private static final int STREAM_PAGE_SIZE = 500;
     private static final UUID DEFAULT_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
 
     private UUID getCurrentUserId() {
@@ -67,6 +84,7 @@ public class ReactiveFileController {
                 throw new IllegalArgumentException("File version not found: " + versionId);
             }
         })
+        .subscribeOn(blockingScheduler)
         .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
         .onErrorResume(IllegalArgumentException.class, e ->
             Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -77,17 +95,18 @@ public class ReactiveFileController {
     @PostMapping
     @Operation(summary = "Upload a file (Reactive)")
     public Mono<ResponseEntity<ApiResponse<FileDtos.UploadResponse>>> uploadFile(@RequestParam("file") MultipartFile file) {
+        var userId = getCurrentUserId();
         return Mono.fromCallable(() -> {
-            var userId = getCurrentUserId();
             var fileEntry = uploadFileUseCase.execute(
                     userId,
                     file.getOriginalFilename(),
                     file.getContentType(),
                     file.getSize(),
-                    file.getInputStream()
+                    file::getInputStream
             );
             return fileMapper.toUploadResponse(fileEntry);
         })
+        .subscribeOn(blockingScheduler)
         .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response)))
         .onErrorResume(Exception.class, e -> {
             log.error("Error uploading file", e);
@@ -96,10 +115,44 @@ public class ReactiveFileController {
         });
     }
 
+    @PostMapping("/stream")
+    @Operation(summary = "Upload a file by streaming the raw request body (Reactive)")
+    public Mono<ResponseEntity<ApiResponse<FileDtos.UploadResponse>>> uploadFileStream(
+            @RequestParam("filename") String filename,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        if (filename.isBlank()) {
+            return Mono.just(ResponseEntity.badRequest()
+                    .body(ApiResponse.<FileDtos.UploadResponse>error("filename must not be blank")));
+        }
+        var userId = getCurrentUserId();
+        return Mono.fromCallable(() -> {
+            var fileEntry = uploadFileUseCase.executeStreaming(
+                    userId,
+                    filename,
+                    contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                    body
+            );
+            return fileMapper.toUploadResponse(fileEntry);
+        })
+        .subscribeOn(blockingScheduler)
+        .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response)))
+        .onErrorResume(UploadTooLargeException.class, e -> {
+            log.warn("Rejected streamed upload of {}: {}", filename, e.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(ApiResponse.<FileDtos.UploadResponse>error(e.getMessage())));
+        })
+        .onErrorResume(Exception.class, e -> {
+            log.error("Error streaming file upload", e);
+            return Mono.<ResponseEntity<ApiResponse<FileDtos.UploadResponse>>>just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.<FileDtos.UploadResponse>error("Failed to upload file: " + e.getMessage())));
+        });
+    }
+
     @GetMapping("/{id}/download")
     @Operation(summary = "Get download URL for a file (Reactive)")
     public Mono<ResponseEntity<ApiResponse<String>>> getDownloadUrl(@PathVariable UUID id) {
-        return Mono.fromCallable(() -> {
+        return Mono.<ResponseEntity<ApiResponse<String>>>fromCallable(() -> {
             try {
                 var presignedUrl = getDownloadUrlUseCase.execute(id);
                 return ResponseEntity.status(HttpStatus.FOUND)
@@ -109,7 +162,24 @@ public class ReactiveFileController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.<String>error("File not found: " + id));
             }
-        });
+        })
+        .subscribeOn(blockingScheduler);
+    }
+
+    @PostMapping("/download-urls")
+    @Operation(summary = "Get presigned download URLs for many files and versions at once (Reactive)")
+    public Mono<ResponseEntity<ApiResponse<FileDtos.DownloadUrlsResponse>>> getDownloadUrls(
+            @RequestBody FileDtos.DownloadUrlsRequest request) {
+        return Mono.fromCallable(() -> {
+            var urls = getDownloadUrlsUseCase.execute(request.fileIds(), request.versionIds());
+            return fileMapper.toDownloadUrlsResponse(urls);
+        })
+        .subscribeOn(blockingScheduler)
+        .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
+        .onErrorResume(IllegalArgumentException.class, e ->
+            Mono.just(ResponseEntity.badRequest()
+                    .body(ApiResponse.<FileDtos.DownloadUrlsResponse>error(e.getMessage())))
+        );
     }
 
     @DeleteMapping("/{id}")
@@ -119,6 +189,7 @@ public class ReactiveFileController {
             deleteFileUseCase.execute(id);
             return null;
         })
+        .subscribeOn(blockingScheduler)
         .then(Mono.just(ResponseEntity.ok(ApiResponse.success((Void) null, "File deleted successfully"))))
         .onErrorResume(IllegalArgumentException.class, e ->
             Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -127,25 +198,70 @@ public class ReactiveFileController {
     }
 
     @GetMapping("/owner/{ownerId}")
-    @Operation(summary = "Get all files by owner (Reactive)")
-    public Mono<ResponseEntity<ApiResponse<List<FileDtos.FileResponse>>>> getFilesByOwner(@PathVariable UUID ownerId) {
-        return Mono.fromCallable(() -> {
-            var files = fileRepositoryPort.findByOwnerId(ownerId);
-            return files.stream().map(fileMapper::toFileResponse).toList();
-        })
-        .map(results -> ResponseEntity.ok(ApiResponse.success(results)));
+    @Operation(summary = "Get a page of files by owner, most recently updated first (Reactive)")
+    public Mono<ResponseEntity<ApiResponse<FileDtos.FilePageResponse>>> getFilesByOwner(
+            @PathVariable UUID ownerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return Mono.fromCallable(() -> fileMapper.toFilePageResponse(listOwnerFilesUseCase.execute(ownerId, cursor, limit)))
+        .subscribeOn(blockingScheduler)
+        .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
+        .onErrorResume(IllegalArgumentException.class, e ->
+            Mono.just(ResponseEntity.badRequest()
+                    .body(ApiResponse.<FileDtos.FilePageResponse>error(e.getMessage())))
+        );
+    }
+
+    @GetMapping(value = "/owner/{ownerId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all files by owner as NDJSON, most recently updated first (Reactive)")
+    public Flux<FileDtos.FileResponse> streamFilesByOwner(@PathVariable UUID ownerId) {
+        // Each page is fetched only after the previous one has been emitted, so memory
+        // stays at one page however many files the owner has
+        return fetchOwnerPage(ownerId, null)
+                .expand(page -> page.hasNext() ? fetchOwnerPage(ownerId, page.nextCursor().encode()) : Mono.empty())
+                .concatMapIterable(FilePage::items)
+                .map(fileMapper::toFileResponse);
+    }
+
+    private Mono<FilePage> fetchOwnerPage(UUID ownerId, String cursor) {
+        return Mono.fromCallable(() -> listOwnerFilesUseCase.execute(ownerId, cursor, STREAM_PAGE_SIZE))
+                .subscribeOn(blockingScheduler);
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search files by name or type (Reactive)")
-    public Mono<ResponseEntity<ApiResponse<List<FileDtos.FileResponse>>>> searchFiles(
+    @Operation(summary = "Search the current user's files by name, type and tag, best matches first (Reactive)")
+    public Mono<ResponseEntity<ApiResponse<FileDtos.SearchResponse>>> searchFiles(
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) String type) {
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String tag,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        var userId = getCurrentUserId();
+        return Mono.fromCallable(() ->
+                fileMapper.toSearchResponse(searchFilesUseCase.execute(userId, name, type, tag, page, size)))
+        .subscribeOn(blockingScheduler)
+        .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
+        .onErrorResume(IllegalArgumentException.class, e ->
+            Mono.just(ResponseEntity.badRequest()
+                    .body(ApiResponse.<FileDtos.SearchResponse>error(e.getMessage())))
+        );
+    }
+
+    @PutMapping("/{id}/tags")
+    @Operation(summary = "Replace the tags of a file (Reactive)")
+    public Mono<ResponseEntity<ApiResponse<FileDtos.TagsResponse>>> setTags(
+            @PathVariable UUID id,
+            @RequestBody FileDtos.TagsRequest request) {
         return Mono.fromCallable(() -> {
-            var files = fileRepositoryPort.search(name, null, type);
-            return files.stream().map(fileMapper::toFileResponse).toList();
+            var tags = tagFileUseCase.execute(id, request.tags() == null ? List.of() : request.tags());
+            return fileMapper.toTagsResponse(id, tags);
         })
-        .map(results -> ResponseEntity.ok(ApiResponse.success(results)));
+        .subscribeOn(blockingScheduler)
+        .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
+        .onErrorResume(IllegalArgumentException.class, e ->
+            Mono.just(ResponseEntity.badRequest()
+                    .body(ApiResponse.<FileDtos.TagsResponse>error(e.getMessage())))
+        );
     }
 
     @GetMapping("/{id}/versions")
@@ -155,13 +271,14 @@ public class ReactiveFileController {
             var versions = getFileVersionsUseCase.execute(id);
             return versions.stream().map(fileMapper::toFileVersionResponse).toList();
         })
+        .subscribeOn(blockingScheduler)
         .map(results -> ResponseEntity.ok(ApiResponse.success(results)));
     }
 
     @GetMapping("/version/{versionId}/download")
     @Operation(summary = "Get download URL for a specific file version (Reactive)")
     public Mono<ResponseEntity<ApiResponse<String>>> getFileVersionDownloadUrl(@PathVariable UUID versionId) {
-        return Mono.fromCallable(() -> {
+        return Mono.<ResponseEntity<ApiResponse<String>>>fromCallable(() -> {
             try {
                 var presignedUrl = getFileVersionDownloadUrlUseCase.execute(versionId);
                 return ResponseEntity.status(HttpStatus.FOUND)
@@ -171,7 +288,8 @@ public class ReactiveFileController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.<String>error("File version not found: " + versionId));
             }
-        });
+        })
+        .subscribeOn(blockingScheduler);
     }
 
     @PostMapping("/{id}/restore/{versionNumber}")
@@ -183,6 +301,7 @@ public class ReactiveFileController {
             var restoredFile = restoreFileVersionUseCase.execute(id, versionNumber);
             return fileMapper.toRestoreResponse(restoredFile);
         })
+        .subscribeOn(blockingScheduler)
         .map(response -> ResponseEntity.ok(ApiResponse.success(response)))
         .onErrorResume(IllegalArgumentException.class, e ->
             Mono.<ResponseEntity<ApiResponse<FileDtos.RestoreResponse>>>just(ResponseEntity.badRequest()
@@ -0,0 +1,280 @@
+package dev.cleanslice.platform.files.infrastructure.storage;
+
+import dev.cleanslice.platform.files.application.port.UploadTooLargeException;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pipes an input stream into an S3 multipart upload.
+ * <p>
+ * Parts are read sequentially from the stream and uploaded in parallel on the shared
+ * executor. Each upload owns at most {@code maxInFlightParts} part buffers, so memory
+ * per upload stays bounded regardless of object size; reading blocks until a buffer
+ * is released. Failed parts are retried individually, and the whole upload is aborted
+ * if a part exhausts its attempts so no orphaned parts are left in the bucket. A running
+ * part upload cannot be interrupted, so the abort waits until every submitted part has
+ * settled; parts still queued at that point are skipped.
+ * <p>
+ * A stream longer than {@code maxUploadSize} is aborted as soon as the byte count passes
+ * the limit, so an oversized body is never stored in full.
+ */
+@Slf4j
+class S3MultipartUploader {
+
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 minimum for all but the last part
+    static final int MAX_PARTS = 10_000; // S3 maximum parts per upload
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final int partSize;
+    private final Executor executor;
+    private final int maxInFlightParts;
+    private final int maxPartAttempts;
+    private final long maxUploadSize;
+
+    S3MultipartUploader(S3Client s3Client, String bucketName, int partSize,
+                        Executor executor, int maxInFlightParts, int maxPartAttempts, long maxUploadSize) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("Multipart part size must be at least 5MB, got " + partSize);
+        }
+        if (maxInFlightParts < 1 || maxPartAttempts < 1) {
+            throw new IllegalArgumentException("In-flight parts and part attempts must be positive");
+        }
+        if (maxUploadSize < 1 || (maxUploadSize + partSize - 1) / partSize > MAX_PARTS) {
+            throw new IllegalArgumentException("Maximum upload size must be positive and fit in "
+                    + MAX_PARTS + " parts of " + partSize + " bytes, got " + maxUploadSize);
+        }
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.partSize = partSize;
+        this.executor = executor;
+        this.maxInFlightParts = maxInFlightParts;
+        this.maxPartAttempts = maxPartAttempts;
+        this.maxUploadSize = maxUploadSize;
+    }
+
+    /**
+     * Uploads the stream and returns the number of bytes written.
+     * Streams that fit in a single part are sent as one plain PUT.
+     *
+     * @throws UploadTooLargeException if the stream is longer than the maximum upload size
+     */
+    long upload(String storageKey, InputStream content, String contentType) {
+        var buffers = new PartBuffers(maxInFlightParts, partSize);
+        byte[] buffer = buffers.take();
+        int read = readPart(content, buffer);
+
+        if (read < partSize) {
+            if (read > maxUploadSize) {
+                throw new UploadTooLargeException(maxUploadSize);
+            }
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(storageKey)
+                            .contentType(contentType)
+                            .contentLength((long) read)
+                            .build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+            return read;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        var aborted = new AtomicBoolean();
+        try {
+            long total = 0;
+            int partNumber = 1;
+
+            while (read > 0) {
+                total += read;
+                if (total > maxUploadSize) {
+                    throw new UploadTooLargeException(maxUploadSize);
+                }
+                parts.add(submitPart(storageKey, uploadId, partNumber, buffer, read, buffers, aborted));
+                partNumber++;
+
+                failFastIfAnyPartFailed(parts);
+                buffer = buffers.take();
+                read = readPart(content, buffer);
+            }
+
+            List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(storageKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+            return total;
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            awaitSettled(parts);
+            abort(storageKey, uploadId);
+            throw unwrap(e);
+        }
+    }
+
+    private CompletableFuture<CompletedPart> submitPart(String storageKey, String uploadId, int partNumber,
+                                                        byte[] buffer, int length, PartBuffers buffers,
+                                                        AtomicBoolean aborted) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return uploadPartWithRetry(storageKey, uploadId, partNumber, buffer, length, aborted);
+            } finally {
+                buffers.release(buffer);
+            }
+        }, executor);
+    }
+
+    private CompletedPart uploadPartWithRetry(String storageKey, String uploadId, int partNumber,
+                                              byte[] buffer, int length, AtomicBoolean aborted) {
+        var request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(storageKey)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) length)
+                .build();
+
+        for (int attempt = 1; ; attempt++) {
+            if (aborted.get()) {
+                throw new CancellationException("Upload " + uploadId + " was aborted before part " + partNumber);
+            }
+            try {
+                var response = s3Client.uploadPart(request,
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+                return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+            } catch (RuntimeException e) {
+                if (attempt >= maxPartAttempts) {
+                    throw e;
+                }
+                log.warn("Part {} of upload {} failed (attempt {}/{}), retrying",
+                        partNumber, uploadId, attempt, maxPartAttempts, e);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void abort(String storageKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(storageKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart upload {} for key {}", uploadId, storageKey, e);
+        }
+    }
+
+    /**
+     * Waits for every submitted part to finish, ignoring failures, so that an abort
+     * is not overtaken by a part upload that is still running.
+     */
+    private static void awaitSettled(List<CompletableFuture<CompletedPart>> parts) {
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .join();
+    }
+
+    private static void failFastIfAnyPartFailed(List<CompletableFuture<CompletedPart>> parts) {
+        for (var part : parts) {
+            if (part.isCompletedExceptionally()) {
+                part.join(); // rethrows the part failure
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(RuntimeException e) {
+        if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return e;
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying part upload", e);
+        }
+    }
+
+    /**
+     * Fills the buffer from the stream, returning fewer bytes only at end of stream.
+     */
+    private static int readPart(InputStream content, byte[] buffer) {
+        try {
+            return content.readNBytes(buffer, 0, buffer.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read upload stream", e);
+        }
+    }
+
+    /**
+     * Per-upload pool of part buffers, allocated lazily up to the in-flight limit.
+     */
+    private static final class PartBuffers {
+        private final BlockingQueue<byte[]> free;
+        private final int capacity;
+        private final int partSize;
+        private int allocated;
+
+        PartBuffers(int capacity, int partSize) {
+            this.free = new ArrayBlockingQueue<>(capacity);
+            this.capacity = capacity;
+            this.partSize = partSize;
+        }
+
+        byte[] take() {
+            byte[] buffer = free.poll();
+            if (buffer != null) {
+                return buffer;
+            }
+            if (allocated < capacity) {
+                allocated++;
+                return new byte[partSize];
+            }
+            try {
+                return free.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a part buffer", e);
+            }
+        }
+
+        void release(byte[] buffer) {
+            free.offer(buffer);
+        }
+    }
+}
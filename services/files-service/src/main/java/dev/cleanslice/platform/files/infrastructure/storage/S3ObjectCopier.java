@@ -0,0 +1,114 @@
+package dev.cleanslice.platform.files.infrastructure.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server-side copy within one bucket.
+ * <p>
+ * A single CopyObject is limited to 5GiB, so larger sources are copied as a multipart
+ * upload whose parts are byte ranges of the source (UploadPartCopy). The multipart copy
+ * is aborted if any part fails so no orphaned parts are left in the bucket.
+ */
+@Slf4j
+class S3ObjectCopier {
+
+    static final long MAX_SINGLE_COPY_SIZE = 5L * 1024 * 1024 * 1024; // S3 limit for CopyObject
+    static final long COPY_PART_SIZE = 1024L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final long maxSingleCopySize;
+    private final long copyPartSize;
+
+    S3ObjectCopier(S3Client s3Client, String bucketName) {
+        this(s3Client, bucketName, MAX_SINGLE_COPY_SIZE, COPY_PART_SIZE);
+    }
+
+    S3ObjectCopier(S3Client s3Client, String bucketName, long maxSingleCopySize, long copyPartSize) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.maxSingleCopySize = maxSingleCopySize;
+        this.copyPartSize = copyPartSize;
+    }
+
+    void copy(String sourceKey, String targetKey) {
+        var source = s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(sourceKey)
+                .build());
+
+        if (source.contentLength() <= maxSingleCopySize) {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(targetKey)
+                    .build());
+            return;
+        }
+        copyInParts(sourceKey, targetKey, source.contentLength(), source.contentType());
+    }
+
+    private void copyInParts(String sourceKey, String targetKey, long size, String contentType) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(targetKey)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long start = 0; start < size; start += copyPartSize, partNumber++) {
+                long end = Math.min(start + copyPartSize, size) - 1;
+                var response = s3Client.uploadPartCopy(UploadPartCopyRequest.builder()
+                        .sourceBucket(bucketName)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(bucketName)
+                        .destinationKey(targetKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .copySourceRange("bytes=" + start + "-" + end)
+                        .build());
+                parts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.copyPartResult().eTag())
+                        .build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(targetKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (RuntimeException e) {
+            abort(targetKey, uploadId);
+            throw e;
+        }
+    }
+
+    private void abort(String storageKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(storageKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart copy {} for key {}", uploadId, storageKey, e);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package dev.cleanslice.platform.files.infrastructure.storage;
 
 import dev.cleanslice.platform.files.application.port.StoragePort;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -17,6 +20,8 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Adapter for S3/MinIO storage operations.
@@ -27,15 +32,30 @@ public class S3StorageAdapter implements StoragePort {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final String bucketName;
+    private final ExecutorService uploadExecutor;
+    private final S3MultipartUploader multipartUploader;
+    private final S3ObjectCopier objectCopier;
+    private final long multipartThreshold;
+    private final Duration presignTtl;
 
     public S3StorageAdapter(
             @Value("${storage.s3.endpoint}") String endpoint,
             @Value("${storage.s3.access-key}") String accessKey,
             @Value("${storage.s3.secret-key}") String secretKey,
             @Value("${storage.s3.bucket}") String bucketName,
-            @Value("${storage.s3.region}") String region) {
+            @Value("${storage.s3.region}") String region,
+            @Value("${storage.s3.multipart.part-size:8MB}") DataSize partSize,
+            @Value("${storage.s3.multipart.threshold:16MB}") DataSize multipartThreshold,
+            @Value("${storage.s3.multipart.upload-threads:16}") int uploadThreads,
+            @Value("${storage.s3.multipart.max-in-flight-parts:4}") int maxInFlightParts,
+            @Value("${storage.s3.multipart.max-part-attempts:3}") int maxPartAttempts,
+            @Value("${storage.upload.max-size:100MB}") DataSize maxUploadSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${storage.presign.ttl:1h}") Duration presignTtl) {
 
         this.bucketName = bucketName;
+        this.presignTtl = presignTtl;
+        this.multipartThreshold = multipartThreshold.toBytes();
 
         var credentials = AwsBasicCredentials.create(accessKey, secretKey);
         var credentialsProvider = StaticCredentialsProvider.create(credentials);
@@ -53,6 +73,15 @@ public class S3StorageAdapter implements StoragePort {
                 .credentialsProvider(credentialsProvider)
                 .build();
 
+        // Bounded pool shared by all uploads; each upload is further capped by max-in-flight-parts,
+        // which is the only cap in virtual-thread mode
+        this.uploadExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-upload-", 0).factory())
+                : Executors.newFixedThreadPool(uploadThreads, new CustomizableThreadFactory("s3-upload-"));
+        this.multipartUploader = new S3MultipartUploader(s3Client, bucketName, Math.toIntExact(partSize.toBytes()),
+                uploadExecutor, maxInFlightParts, maxPartAttempts, maxUploadSize.toBytes());
+        this.objectCopier = new S3ObjectCopier(s3Client, bucketName);
+
         // Create bucket if not exists
         createBucketIfNotExists();
     }
@@ -65,8 +94,18 @@ public class S3StorageAdapter implements StoragePort {
         }
     }
 
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     @Override
     public void put(String storageKey, InputStream content, long size, String contentType) {
+        if (size >= multipartThreshold) {
+            multipartUploader.upload(storageKey, content, contentType);
+            return;
+        }
+
         var putRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(storageKey)
@@ -77,6 +116,11 @@ public class S3StorageAdapter implements StoragePort {
         s3Client.putObject(putRequest, RequestBody.fromInputStream(content, size));
     }
 
+    @Override
+    public long putStream(String storageKey, InputStream content, String contentType) {
+        return multipartUploader.upload(storageKey, content, contentType);
+    }
+
     @Override
     public InputStream get(String storageKey) {
         var getRequest = GetObjectRequest.builder()
@@ -87,6 +131,11 @@ public class S3StorageAdapter implements StoragePort {
         return s3Client.getObject(getRequest);
     }
 
+    @Override
+    public void copy(String sourceKey, String targetKey) {
+        objectCopier.copy(sourceKey, targetKey);
+    }
+
     @Override
     public void delete(String storageKey) {
         s3Client.deleteObject(b -> b.bucket(bucketName).key(storageKey));
@@ -100,7 +149,7 @@ public class S3StorageAdapter implements StoragePort {
                 .build();
 
         var presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofSeconds(3600)) // 1 hour
+                .signatureDuration(presignTtl)
                 .getObjectRequest(getObjectRequest)
                 .build();
 
@@ -0,0 +1,29 @@
+package dev.cleanslice.platform.files.infrastructure.storage;
+
+import dev.cleanslice.platform.files.application.usecase.ReapStagedUploadsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically removes storage objects left behind by uploads that never committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.staging.reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class StagedUploadReaper {
+
+    private final ReapStagedUploadsUseCase reapStagedUploadsUseCase;
+
+    @Scheduled(fixedDelayString = "${storage.staging.reaper.interval:5m}",
+               initialDelayString = "${storage.staging.reaper.interval:5m}")
+    void reap() {
+        int total = reapStagedUploadsUseCase.execute();
+        if (total > 0) {
+            log.info("Reaped {} abandoned staged uploads", total);
+        }
+    }
+}
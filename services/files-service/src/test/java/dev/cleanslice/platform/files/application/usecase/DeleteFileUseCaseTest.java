@@ -0,0 +1,46 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.FileEventPublisherPort;
+import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
+import dev.cleanslice.platform.files.domain.FileEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeleteFileUseCaseTest {
+
+    private final FileRepositoryPort fileRepository = mock(FileRepositoryPort.class);
+    private final PresignedUrlCachePort cache = mock(PresignedUrlCachePort.class);
+    private final DeleteFileUseCase useCase =
+            new DeleteFileUseCase(fileRepository, mock(FileEventPublisherPort.class), cache);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldDropCachedUrlsOnlyAfterCommit() {
+        var file = FileEntry.create(UUID.randomUUID(), "report.pdf", "application/pdf", 10);
+        when(fileRepository.findById(file.getId())).thenReturn(Optional.of(file));
+        TransactionSynchronizationManager.initSynchronization();
+
+        useCase.execute(file.getId());
+
+        verify(cache, never()).invalidateFile(file.getId());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(cache).invalidateFile(file.getId());
+    }
+}
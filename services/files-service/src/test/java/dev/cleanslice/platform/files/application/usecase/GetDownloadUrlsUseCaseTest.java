@@ -0,0 +1,79 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
+import dev.cleanslice.platform.files.application.port.StoragePort;
+import dev.cleanslice.platform.files.domain.FileVersion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class GetDownloadUrlsUseCaseTest {
+
+    private final StoragePort storagePort = mock(StoragePort.class);
+    private final FileVersionRepositoryPort fileVersionRepository = mock(FileVersionRepositoryPort.class);
+    private final PresignedUrlCachePort cache = mock(PresignedUrlCachePort.class);
+
+    private final GetDownloadUrlsUseCase usecase =
+            new GetDownloadUrlsUseCase(storagePort, fileVersionRepository, cache, 10);
+
+    @Test
+    void shouldResolveCacheMissesWithOneQueryAndReportMissingFiles() {
+        var cachedId = UUID.randomUUID();
+        var liveId = UUID.randomUUID();
+        var deletedId = UUID.randomUUID();
+        var missingId = UUID.randomUUID();
+        when(cache.get(anyString())).thenReturn(Optional.empty());
+        when(cache.get("file:" + cachedId)).thenReturn(Optional.of("https://cached"));
+        when(fileVersionRepository.findCurrentVersionsOfLiveFiles(List.of(liveId, deletedId, missingId)))
+                .thenReturn(List.of(currentVersion(liveId, "blobs/sha256/abc")));
+        when(storagePort.generatePresignedDownloadUrl("blobs/sha256/abc")).thenReturn("https://live");
+
+        var result = usecase.execute(List.of(cachedId, liveId, deletedId, missingId), null);
+
+        assertThat(result.files()).containsEntry(cachedId, "https://cached").containsEntry(liveId, "https://live").hasSize(2);
+        assertThat(result.notFound()).containsExactly(deletedId, missingId);
+        verify(cache).put("file:" + liveId, liveId, "https://live");
+    }
+
+    @Test
+    void shouldReportVersionsOfDeletedFilesAsNotFound() {
+        var liveVersion = currentVersion(UUID.randomUUID(), "uploads/live");
+        var deletedFileVersionId = UUID.randomUUID();
+        when(cache.get(anyString())).thenReturn(Optional.empty());
+        when(fileVersionRepository.findVersionsOfLiveFiles(List.of(liveVersion.getId(), deletedFileVersionId)))
+                .thenReturn(List.of(liveVersion));
+        when(storagePort.generatePresignedDownloadUrl("uploads/live")).thenReturn("https://live");
+
+        var result = usecase.execute(null, List.of(liveVersion.getId(), deletedFileVersionId));
+
+        assertThat(result.versions()).containsOnly(Map.entry(liveVersion.getId(), "https://live"));
+        assertThat(result.notFound()).containsExactly(deletedFileVersionId);
+    }
+
+    @Test
+    void shouldRejectBatchOverLimit() {
+        var ids = Stream.generate(UUID::randomUUID).limit(11).toList();
+
+        assertThatThrownBy(() -> usecase.execute(ids, List.of())).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(fileVersionRepository, storagePort);
+    }
+
+    private static FileVersion currentVersion(UUID fileId, String storageKey) {
+        return new FileVersion(UUID.randomUUID(), fileId, 2, "image.png", "image/png", 100,
+                storageKey, "abc", Instant.now(), UUID.randomUUID());
+    }
+}
@@ -19,7 +19,7 @@ class GetFileVersionUseCaseTest {
         var repo = mock(FileVersionRepositoryPort.class);
         var id = UUID.randomUUID();
         var fileId = UUID.randomUUID();
-        var version = new FileVersion(id, fileId, 1, "test.txt", "text/plain", 100, fileId.toString(), java.time.Instant.now(), UUID.randomUUID());
+        var version = new FileVersion(id, fileId, 1, "test.txt", "text/plain", 100, fileId.toString(), null, java.time.Instant.now(), UUID.randomUUID());
         when(repo.findById(id)).thenReturn(Optional.of(version));
 
         var usecase = new GetFileVersionUseCase(repo);
@@ -0,0 +1,66 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.BlobRepositoryPort;
+import dev.cleanslice.platform.files.application.port.StagedUploadRepositoryPort;
+import dev.cleanslice.platform.files.application.port.StagedUploadRepositoryPort.StagedUpload;
+import dev.cleanslice.platform.files.application.port.StoragePort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReapStagedUploadsUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+    private static final Instant CUTOFF = NOW.minus(Duration.ofHours(1));
+
+    private final StagedUploadRepositoryPort stagedUploadRepository = mock(StagedUploadRepositoryPort.class);
+    private final BlobRepositoryPort blobRepository = mock(BlobRepositoryPort.class);
+    private final StoragePort storagePort = mock(StoragePort.class);
+
+    private final ReapStagedUploadsUseCase usecase = new ReapStagedUploadsUseCase(stagedUploadRepository,
+            blobRepository, storagePort, Duration.ofHours(1), 10, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldDeleteAbandonedObjectAndReleaseIt() {
+        var staged = staged("uploads/abc");
+        when(stagedUploadRepository.findRegisteredBefore(any(), anyInt())).thenReturn(List.of(staged));
+
+        assertThat(usecase.execute()).isEqualTo(1);
+
+        verify(stagedUploadRepository).findRegisteredBefore(CUTOFF, 10);
+        verify(storagePort).delete("uploads/abc");
+        verify(stagedUploadRepository).release(staged.id());
+    }
+
+    @Test
+    void shouldKeepBlobThatIsRecordedOrBeingWrittenAgain() {
+        var recorded = staged("blobs/sha256/aaa");
+        var inFlight = staged("blobs/sha256/bbb");
+        when(stagedUploadRepository.findRegisteredBefore(any(), anyInt())).thenReturn(List.of(recorded, inFlight));
+        when(blobRepository.exists("aaa")).thenReturn(true);
+        when(stagedUploadRepository.isRegisteredSince("blobs/sha256/bbb", CUTOFF)).thenReturn(true);
+
+        usecase.execute();
+
+        verify(storagePort, never()).delete(any());
+        verify(stagedUploadRepository).release(recorded.id());
+        verify(stagedUploadRepository).release(inFlight.id());
+    }
+
+    private static StagedUpload staged(String key) {
+        return new StagedUpload(UUID.randomUUID(), key, CUTOFF.minusSeconds(1));
+    }
+}
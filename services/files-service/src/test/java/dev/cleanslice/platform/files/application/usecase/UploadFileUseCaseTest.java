@@ -0,0 +1,103 @@
+package dev.cleanslice.platform.files.application.usecase;
+
+import dev.cleanslice.platform.files.application.port.BlobRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileEventPublisherPort;
+import dev.cleanslice.platform.files.application.port.FileRepositoryPort;
+import dev.cleanslice.platform.files.application.port.FileVersionRepositoryPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
+import dev.cleanslice.platform.files.application.port.StagedUploadRepositoryPort;
+import dev.cleanslice.platform.files.application.port.StoragePort;
+import dev.cleanslice.platform.files.domain.FileVersion;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UploadFileUseCaseTest {
+
+    // SHA-256 of "hello"
+    private static final String HELLO_DIGEST = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+    private static final byte[] HELLO = "hello".getBytes(StandardCharsets.UTF_8);
+
+    private final StoragePort storagePort = mock(StoragePort.class);
+    private final FileRepositoryPort fileRepository = mock(FileRepositoryPort.class);
+    private final FileVersionRepositoryPort fileVersionRepository = mock(FileVersionRepositoryPort.class);
+    private final BlobRepositoryPort blobRepository = mock(BlobRepositoryPort.class);
+    private final StagedUploadRepositoryPort stagedUploadRepository = mock(StagedUploadRepositoryPort.class);
+
+    private final FileUploadCommitter committer = new FileUploadCommitter(fileRepository, fileVersionRepository,
+            blobRepository, stagedUploadRepository, mock(FileEventPublisherPort.class), mock(PresignedUrlCachePort.class));
+
+    UploadFileUseCaseTest() {
+        when(fileRepository.findByOwnerIdAndName(any(), anyString())).thenReturn(Optional.empty());
+        when(fileRepository.save(any())).then(returnsFirstArg());
+        when(stagedUploadRepository.register(anyString())).thenReturn(UUID.randomUUID());
+    }
+
+    @Test
+    void shouldWriteContentBeforeCommittingMetadataAndThenReleaseStagedKey() {
+        var stagedId = UUID.randomUUID();
+        when(stagedUploadRepository.register(anyString())).thenReturn(stagedId);
+
+        usecase(false).execute(UUID.randomUUID(), "hello.txt", "text/plain", HELLO.length,
+                () -> new ByteArrayInputStream(HELLO));
+
+        String key = savedVersion().getStorageKey();
+        assertThat(key).startsWith("uploads/");
+        InOrder order = inOrder(stagedUploadRepository, storagePort, fileVersionRepository);
+        order.verify(stagedUploadRepository).register(key);
+        order.verify(storagePort).put(eq(key), any(InputStream.class), eq((long) HELLO.length), eq("text/plain"));
+        order.verify(fileVersionRepository).save(any());
+        order.verify(stagedUploadRepository).release(stagedId);
+    }
+
+    @Test
+    void shouldSkipStorageWhenBlobAlreadyExists() {
+        when(blobRepository.exists(HELLO_DIGEST)).thenReturn(true);
+
+        usecase(true).execute(UUID.randomUUID(), "hello.txt", "text/plain", HELLO.length, () -> new ByteArrayInputStream(HELLO));
+
+        verify(storagePort, never()).put(anyString(), any(InputStream.class), anyLong(), anyString());
+        verify(blobRepository).addReference(HELLO_DIGEST, HELLO.length);
+        verify(stagedUploadRepository, never()).register(anyString());
+        assertThat(savedVersion().getStorageKey()).isEqualTo("blobs/sha256/" + HELLO_DIGEST);
+        assertThat(savedVersion().getContentDigest()).isEqualTo(HELLO_DIGEST);
+    }
+
+    @Test
+    void shouldStoreNewBlobUnderItsDigest() {
+        when(blobRepository.exists(HELLO_DIGEST)).thenReturn(false);
+
+        usecase(true).execute(UUID.randomUUID(), "hello.txt", "text/plain", HELLO.length, () -> new ByteArrayInputStream(HELLO));
+
+        verify(storagePort).put(eq("blobs/sha256/" + HELLO_DIGEST), any(InputStream.class), eq((long) HELLO.length), eq("text/plain"));
+        verify(blobRepository).addReference(HELLO_DIGEST, HELLO.length);
+    }
+
+    private UploadFileUseCase usecase(boolean contentAddressed) {
+        return new UploadFileUseCase(storagePort, blobRepository, stagedUploadRepository, committer, contentAddressed);
+    }
+
+    private FileVersion savedVersion() {
+        var captor = ArgumentCaptor.forClass(FileVersion.class);
+        verify(fileVersionRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
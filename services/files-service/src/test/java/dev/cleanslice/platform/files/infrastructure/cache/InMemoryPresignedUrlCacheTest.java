@@ -0,0 +1,96 @@
+package dev.cleanslice.platform.files.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryPresignedUrlCacheTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration SAFETY_MARGIN = Duration.ofMinutes(5);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Test
+    void shouldServeUrlUntilSafetyMarginBeforeExpiry() {
+        var cache = new InMemoryPresignedUrlCache(clock, TTL, SAFETY_MARGIN, 100);
+        cache.put("file:1", UUID.randomUUID(), "https://signed");
+
+        clock.advance(TTL.minus(SAFETY_MARGIN).minusSeconds(1));
+        assertThat(cache.get("file:1")).contains("https://signed");
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get("file:1")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldInvalidateAllUrlsOfFile() {
+        var cache = new InMemoryPresignedUrlCache(clock, TTL, SAFETY_MARGIN, 100);
+        var fileId = UUID.randomUUID();
+        var otherFileId = UUID.randomUUID();
+        cache.put("file:" + fileId, fileId, "https://current");
+        cache.put("version:v1", fileId, "https://v1");
+        cache.put("file:" + otherFileId, otherFileId, "https://other");
+
+        cache.invalidateFile(fileId);
+
+        assertThat(cache.get("file:" + fileId)).isEmpty();
+        assertThat(cache.get("version:v1")).isEmpty();
+        assertThat(cache.get("file:" + otherFileId)).contains("https://other");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        var cache = new InMemoryPresignedUrlCache(clock, TTL, SAFETY_MARGIN, 2);
+        cache.put("a", UUID.randomUUID(), "https://a");
+        cache.put("b", UUID.randomUUID(), "https://b");
+        cache.get("a");
+
+        cache.put("c", UUID.randomUUID(), "https://c");
+
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).contains("https://a");
+        assertThat(cache.get("c")).contains("https://c");
+    }
+
+    @Test
+    void shouldRejectSafetyMarginLongerThanTtl() {
+        assertThatThrownBy(() -> new InMemoryPresignedUrlCache(clock, TTL, TTL, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.domain.FileEntry;
+import dev.cleanslice.platform.files.domain.FileVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({FileRepositoryAdapter.class, FileMapper.class, FileVersionRepositoryAdapter.class, FileVersionMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FileVersionCounterPostgresTest extends PostgresJpaTest {
+
+    @Autowired
+    private FileRepositoryAdapter fileRepository;
+
+    @Autowired
+    private FileVersionRepositoryAdapter versionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldSeedCounterFromExistingVersionsOfLegacyFiles() {
+        var file = legacyFile(3);
+
+        Integer allocated = new TransactionTemplate(transactionManager)
+                .execute(status -> versionRepository.allocateVersionNumber(file.getId()));
+
+        assertThat(allocated).isEqualTo(4);
+    }
+
+    @Test
+    void shouldAllocateDistinctVersionsToConcurrentFirstUploadsOfALegacyFile() throws Exception {
+        var file = legacyFile(3);
+        var transactions = new TransactionTemplate(transactionManager);
+        int uploads = 8;
+
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(uploads);
+        var allocated = new ArrayList<Integer>();
+        try {
+            var results = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < uploads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return transactions.execute(status -> versionRepository.allocateVersionNumber(file.getId()));
+                }));
+            }
+            start.countDown();
+            for (var result : results) {
+                allocated.add(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(allocated).containsExactlyInAnyOrder(4, 5, 6, 7, 8, 9, 10, 11);
+    }
+
+    /**
+     * A file with stored versions but no counter, as written before counters existed.
+     */
+    private FileEntry legacyFile(int versions) {
+        var ownerId = UUID.randomUUID();
+        var file = fileRepository.save(FileEntry.create(UUID.randomUUID(), ownerId, "a.txt", "text/plain", 1));
+        for (int version = 1; version <= versions; version++) {
+            versionRepository.save(FileVersion.create(file.getId(), version, "a.txt", "text/plain", 1,
+                    file.getId() + "/v" + version, null, ownerId));
+        }
+        return file;
+    }
+}
@@ -0,0 +1,48 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.domain.FileEntry;
+import dev.cleanslice.platform.files.domain.FileVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({FileRepositoryAdapter.class, FileMapper.class, FileVersionRepositoryAdapter.class, FileVersionMapper.class})
+class FileVersionRepositoryAdapterTest {
+
+    @Autowired
+    private FileRepositoryAdapter fileRepository;
+
+    @Autowired
+    private FileVersionRepositoryAdapter versionRepository;
+
+    @Test
+    void shouldAllocateConsecutiveVersionsAfterTheFirst() {
+        var file = fileRepository.save(FileEntry.create(UUID.randomUUID(), UUID.randomUUID(), "a.txt", "text/plain", 1));
+        versionRepository.startVersionNumbering(file.getId());
+
+        assertThat(versionRepository.allocateVersionNumber(file.getId())).isEqualTo(2);
+        assertThat(versionRepository.allocateVersionNumber(file.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSkipVersionsOfDeletedFiles() {
+        var ownerId = UUID.randomUUID();
+        var live = fileRepository.save(FileEntry.create(UUID.randomUUID(), ownerId, "live.txt", "text/plain", 1));
+        var deleted = fileRepository.save(FileEntry.create(UUID.randomUUID(), ownerId, "gone.txt", "text/plain", 1));
+        var liveVersion = versionRepository.save(FileVersion.create(live.getId(), 1, "live.txt", "text/plain", 1,
+                live.getId() + "/v1", null, ownerId));
+        var deletedVersion = versionRepository.save(FileVersion.create(deleted.getId(), 1, "gone.txt", "text/plain", 1,
+                deleted.getId() + "/v1", null, ownerId));
+        fileRepository.save(deleted.markDeleted());
+
+        assertThat(versionRepository.findVersionsOfLiveFiles(List.of(liveVersion.getId(), deletedVersion.getId(),
+                UUID.randomUUID()))).extracting(FileVersion::getId).containsExactly(liveVersion.getId());
+    }
+}
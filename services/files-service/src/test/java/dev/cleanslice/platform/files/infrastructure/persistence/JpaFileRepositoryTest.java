@@ -0,0 +1,87 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.application.port.FileSearchQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class JpaFileRepositoryTest {
+
+    @Autowired
+    private JpaFileRepository repository;
+
+    @Autowired
+    private JpaFileTagRepository tagRepository;
+
+    @Test
+    void shouldPageOwnerFilesByUpdatedAtThenIdDescending() {
+        var ownerId = UUID.randomUUID();
+        var now = Instant.parse("2024-01-01T12:00:00Z");
+        var newest = save(new UUID(0, 3), ownerId, now);
+        var tieHigh = save(new UUID(0, 2), ownerId, now.minusSeconds(60));
+        var tieLow = save(new UUID(0, 1), ownerId, now.minusSeconds(60));
+        var oldest = save(new UUID(0, 4), ownerId, now.minusSeconds(120));
+        save(new UUID(0, 5), UUID.randomUUID(), now);
+
+        var firstPage = repository.findFirstPageByOwnerId(ownerId, Limit.of(2));
+        var last = firstPage.get(firstPage.size() - 1);
+        var secondPage = repository.findPageByOwnerIdAfter(ownerId, last.getUpdatedAt(), last.getId(), Limit.of(2));
+
+        assertThat(firstPage).extracting(FileEntryEntity::getId).containsExactly(newest.getId(), tieHigh.getId());
+        assertThat(secondPage).extracting(FileEntryEntity::getId).containsExactly(tieLow.getId(), oldest.getId());
+    }
+
+    @Test
+    void shouldRankExactThenPrefixThenSubstringNameMatches() {
+        var ownerId = UUID.randomUUID();
+        var now = Instant.parse("2024-01-01T12:00:00Z");
+        var substring = save(new UUID(0, 1), ownerId, "my-report.pdf", now);
+        var prefix = save(new UUID(0, 2), ownerId, "Report.pdf.bak", now.minusSeconds(60));
+        var exact = save(new UUID(0, 3), ownerId, "report.pdf", now.minusSeconds(120));
+        save(new UUID(0, 4), ownerId, "invoice.pdf", now);
+        save(new UUID(0, 5), UUID.randomUUID(), "report.pdf", now);
+
+        var results = repository.search(new FileSearchQuery(ownerId, "REPORT.pdf", null, null, 0, 10));
+
+        assertThat(results).extracting(FileEntryEntity::getId)
+                .containsExactly(exact.getId(), prefix.getId(), substring.getId());
+    }
+
+    @Test
+    void shouldFilterByTagAndTypeAndTreatWildcardsLiterally() {
+        var ownerId = UUID.randomUUID();
+        var now = Instant.parse("2024-01-01T12:00:00Z");
+        var tagged = save(new UUID(0, 1), ownerId, "100%_done.txt", now);
+        save(new UUID(0, 2), ownerId, "100 done.txt", now);
+        tagRepository.saveAndFlush(new FileTagEntity(tagged.getId(), "finance"));
+
+        assertThat(repository.search(new FileSearchQuery(ownerId, "%_", null, null, 0, 10)))
+                .extracting(FileEntryEntity::getId).containsExactly(tagged.getId());
+        assertThat(repository.search(new FileSearchQuery(ownerId, null, "text/", "finance", 0, 10)))
+                .extracting(FileEntryEntity::getId).containsExactly(tagged.getId());
+        assertThat(repository.search(new FileSearchQuery(ownerId, null, "image/", null, 0, 10))).isEmpty();
+    }
+
+    private FileEntryEntity save(UUID id, UUID ownerId, Instant updatedAt) {
+        return save(id, ownerId, "file-" + id, updatedAt);
+    }
+
+    private FileEntryEntity save(UUID id, UUID ownerId, String name, Instant updatedAt) {
+        var entity = new FileEntryEntity();
+        entity.setId(id);
+        entity.setOwnerId(ownerId);
+        entity.setName(name);
+        entity.setContentType("text/plain");
+        entity.setSize(1);
+        entity.setCreatedAt(updatedAt);
+        entity.setUpdatedAt(updatedAt);
+        return repository.saveAndFlush(entity);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.cleanslice.platform.files.infrastructure.persistence;
+
+import dev.cleanslice.platform.files.application.port.FileEventPublisherPort;
+import dev.cleanslice.platform.files.application.port.PresignedUrlCachePort;
+import dev.cleanslice.platform.files.application.usecase.FileUploadCommitter;
+import dev.cleanslice.platform.files.application.usecase.StoredUpload;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Import({FileRepositoryAdapter.class, FileMapper.class, FileVersionRepositoryAdapter.class, FileVersionMapper.class,
+        StorageBlobRepositoryAdapter.class, StagedUploadRepositoryAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StorageBlobRepositoryAdapterTest extends PostgresJpaTest {
+
+    @Autowired
+    private FileRepositoryAdapter fileRepository;
+
+    @Autowired
+    private FileVersionRepositoryAdapter versionRepository;
+
+    @Autowired
+    private StorageBlobRepositoryAdapter blobRepository;
+
+    @Autowired
+    private StagedUploadRepositoryAdapter stagedUploadRepository;
+
+    @Autowired
+    private JpaStorageBlobRepository jpaBlobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldCountEveryConcurrentFirstCommitOfTheSameContent() throws Exception {
+        var committer = new FileUploadCommitter(fileRepository, versionRepository, blobRepository,
+                stagedUploadRepository, mock(FileEventPublisherPort.class), mock(PresignedUrlCachePort.class));
+        var transactions = new TransactionTemplate(transactionManager);
+        String digest = HexFormat.of().formatHex(randomBytes(32));
+        var stored = new StoredUpload("blobs/sha256/" + digest, 4, digest, List.of());
+        int commits = 8;
+
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(commits);
+        try {
+            var results = new ArrayList<Future<?>>();
+            for (int i = 0; i < commits; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return transactions.execute(status ->
+                            committer.commit(UUID.randomUUID(), "same.bin", "application/octet-stream", stored));
+                }));
+            }
+            start.countDown();
+            for (var result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var blob = jpaBlobRepository.findById(digest).orElseThrow();
+        assertThat(blob.getRefCount()).isEqualTo(commits);
+        assertThat(blob.getSize()).isEqualTo(4);
+    }
+
+    private static byte[] randomBytes(int length) {
+        var bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+}
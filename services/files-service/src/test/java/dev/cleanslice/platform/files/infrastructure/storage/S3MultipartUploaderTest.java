@@ -0,0 +1,165 @@
+package dev.cleanslice.platform.files.infrastructure.storage;
+
+import dev.cleanslice.platform.files.application.port.UploadTooLargeException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = S3MultipartUploader.MIN_PART_SIZE;
+
+    private static S3MultipartUploader newUploader(S3Client s3Client) {
+        return newUploader(s3Client, 100L * 1024 * 1024);
+    }
+
+    private static S3MultipartUploader newUploader(S3Client s3Client, long maxUploadSize) {
+        return new S3MultipartUploader(s3Client, "files", PART_SIZE, Executors.newFixedThreadPool(2), 2, 2,
+                maxUploadSize);
+    }
+
+    @Test
+    void shouldUsePlainPutWhenStreamFitsInOnePart() {
+        S3Client s3Client = mock(S3Client.class);
+        var uploader = newUploader(s3Client);
+
+        long written = uploader.upload("key", new ByteArrayInputStream(new byte[1024]), "text/plain");
+
+        assertThat(written).isEqualTo(1024);
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(captor.capture(), any(RequestBody.class));
+        assertThat(captor.getValue().contentLength()).isEqualTo(1024L);
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void shouldSplitLargeStreamIntoParts() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+        var uploader = newUploader(s3Client);
+
+        int size = PART_SIZE * 2 + 100;
+        long written = uploader.upload("key", new ByteArrayInputStream(new byte[size]), "video/mp4");
+
+        assertThat(written).isEqualTo(size);
+        verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().multipartUpload().parts()).hasSize(3);
+    }
+
+    @Test
+    void shouldRetryFailedPartWithoutRestartingUpload() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("transient").build())
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+        var uploader = newUploader(s3Client);
+
+        long written = uploader.upload("key", new ByteArrayInputStream(new byte[PART_SIZE + 1]), "video/mp4");
+
+        assertThat(written).isEqualTo(PART_SIZE + 1);
+        verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client, times(1)).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void shouldAbortUploadWhenPartFails() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("boom").build());
+        var uploader = newUploader(s3Client);
+
+        assertThatThrownBy(() -> uploader.upload("key", new ByteArrayInputStream(new byte[PART_SIZE + 1]), "video/mp4"))
+                .isInstanceOf(S3Exception.class);
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void shouldAbortOnlyAfterPartsStillUploadingHaveFinished() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (request.partNumber() != 1) {
+                throw S3Exception.builder().message("boom").build();
+            }
+            Thread.sleep(1000); // slow part, still running when part 2 gives up
+            events.add("part 1 finished");
+            return UploadPartResponse.builder().eTag("etag").build();
+        });
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            events.add("aborted");
+            return null;
+        });
+        var uploader = newUploader(s3Client);
+
+        assertThatThrownBy(() -> uploader.upload("key", new ByteArrayInputStream(new byte[PART_SIZE * 4]), "video/mp4"))
+                .isInstanceOf(S3Exception.class);
+        assertThat(events).containsExactly("part 1 finished", "aborted");
+    }
+
+    @Test
+    void shouldAbortOversizedStreamWithoutReadingItToTheEnd() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+        var uploader = newUploader(s3Client, PART_SIZE + 10);
+        var content = new ByteArrayInputStream(new byte[PART_SIZE * 4]);
+
+        assertThatThrownBy(() -> uploader.upload("key", content, "video/mp4"))
+                .isInstanceOf(UploadTooLargeException.class);
+        assertThat(content.available()).isEqualTo(PART_SIZE * 2);
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void shouldRejectOversizedStreamThatFitsInOnePart() {
+        S3Client s3Client = mock(S3Client.class);
+        var uploader = newUploader(s3Client, 1024);
+
+        assertThatThrownBy(() -> uploader.upload("key", new ByteArrayInputStream(new byte[1025]), "text/plain"))
+                .isInstanceOf(UploadTooLargeException.class);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+}
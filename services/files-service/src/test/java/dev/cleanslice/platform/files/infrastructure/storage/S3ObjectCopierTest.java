@@ -0,0 +1,84 @@
+package dev.cleanslice.platform.files.infrastructure.storage;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyPartResult;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3ObjectCopierTest {
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3ObjectCopier copier = new S3ObjectCopier(s3Client, "files", 100, 40);
+
+    @Test
+    void shouldUseSingleCopyUpToTheCopyObjectLimit() {
+        sourceOfSize(100);
+
+        copier.copy("staging/1", "blobs/abc");
+
+        verify(s3Client).copyObject(any(CopyObjectRequest.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void shouldCopyLargerSourcesInByteRanges() {
+        sourceOfSize(101);
+        startsMultipartUpload();
+        when(s3Client.uploadPartCopy(any(UploadPartCopyRequest.class))).thenReturn(UploadPartCopyResponse.builder()
+                .copyPartResult(CopyPartResult.builder().eTag("etag").build())
+                .build());
+
+        copier.copy("staging/1", "blobs/abc");
+
+        ArgumentCaptor<UploadPartCopyRequest> parts = ArgumentCaptor.forClass(UploadPartCopyRequest.class);
+        verify(s3Client, times(3)).uploadPartCopy(parts.capture());
+        assertThat(parts.getAllValues()).extracting(UploadPartCopyRequest::copySourceRange)
+                .containsExactly("bytes=0-39", "bytes=40-79", "bytes=80-100");
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts()).hasSize(3);
+        verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+    }
+
+    @Test
+    void shouldAbortMultipartCopyWhenAPartFails() {
+        sourceOfSize(101);
+        startsMultipartUpload();
+        when(s3Client.uploadPartCopy(any(UploadPartCopyRequest.class)))
+                .thenThrow(S3Exception.builder().message("boom").build());
+
+        assertThatThrownBy(() -> copier.copy("staging/1", "blobs/abc")).isInstanceOf(S3Exception.class);
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    private void sourceOfSize(long size) {
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(size).contentType("video/mp4").build());
+    }
+
+    private void startsMultipartUpload() {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("copy-1").build());
+    }
+}
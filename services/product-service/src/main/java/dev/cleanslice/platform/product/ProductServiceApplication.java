@@ -1,8 +1,11 @@
 package dev.cleanslice.platform.product;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.TypeExcludeFilter;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 /**
@@ -13,6 +16,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @ComponentScan(basePackages = {
     "dev.cleanslice.platform.product",
     "dev.cleanslice.platform.common"
+}, excludeFilters = {
+    // Same filters as @SpringBootApplication's own scan, so test slices stay slices
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class)
 })
 @EnableJpaRepositories(basePackages = "dev.cleanslice.platform.product.infrastructure.persistence.repository")
 public class ProductServiceApplication {
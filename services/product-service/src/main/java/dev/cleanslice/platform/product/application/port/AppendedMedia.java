@@ -0,0 +1,13 @@
+package dev.cleanslice.platform.product.application.port;
+
+import dev.cleanslice.platform.product.domain.Media;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of appending media to a product: the rows as stored, with their assigned sort order,
+ * and the product fields needed to publish the change without loading the aggregate.
+ */
+public record AppendedMedia(UUID productId, UUID ownerId, String productName, List<Media> media) {
+}
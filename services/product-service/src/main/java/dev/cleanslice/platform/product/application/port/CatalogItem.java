@@ -0,0 +1,31 @@
+package dev.cleanslice.platform.product.application.port;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Published product as shown in the catalog listing, denormalized from the aggregate.
+ * Prices are null for products without variants; the primary media is the one flagged
+ * primary, else the first by sort order. The total stock is the variants' current stock,
+ * read from the inventory for each page rather than denormalized.
+ */
+public record CatalogItem(UUID productId,
+                          UUID ownerId,
+                          String name,
+                          String description,
+                          BigDecimal minPrice,
+                          BigDecimal maxPrice,
+                          int totalStock,
+                          int variantCount,
+                          UUID primaryFileId,
+                          String primaryAltText,
+                          int mediaCount,
+                          Instant publishedAt,
+                          Instant updatedAt) {
+
+    public CatalogItem withTotalStock(int totalStock) {
+        return new CatalogItem(productId, ownerId, name, description, minPrice, maxPrice, totalStock,
+                variantCount, primaryFileId, primaryAltText, mediaCount, publishedAt, updatedAt);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.cleanslice.platform.product.application.port;
+
+import java.util.List;
+
+/**
+ * One page of the catalog listing. No total is computed, only whether a next page exists.
+ */
+public record CatalogPage(List<CatalogItem> items, int page, int size, boolean hasNext) {
+}
@@ -0,0 +1,29 @@
+package dev.cleanslice.platform.product.application.port;
+
+import java.util.UUID;
+
+/**
+ * Port for the catalog read model: one denormalized row per published product.
+ * Write use cases refresh it in their own transaction so it never lags the aggregate.
+ */
+public interface CatalogProjectionPort {
+
+    /**
+     * Rebuilds the product's catalog row from its current state, or removes it if the
+     * product no longer exists or is not published.
+     *
+     * @param productId the product ID
+     */
+    void refresh(UUID productId);
+
+    /**
+     * Find a page of the catalog. Its items carry no stock, which is not part of the
+     * read model; see {@link InventoryPort#findAvailableByProduct}.
+     *
+     * @param sort the ordering
+     * @param page zero-based page number
+     * @param size page size
+     * @return the page
+     */
+    CatalogPage findPage(CatalogSort sort, int page, int size);
+}
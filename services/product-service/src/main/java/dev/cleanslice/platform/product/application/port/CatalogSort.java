@@ -0,0 +1,11 @@
+package dev.cleanslice.platform.product.application.port;
+
+/**
+ * Orderings offered by the published catalog listing. Ties are broken by product id.
+ */
+public enum CatalogSort {
+    NEWEST,
+    NAME,
+    PRICE_LOW_TO_HIGH,
+    PRICE_HIGH_TO_LOW
+}
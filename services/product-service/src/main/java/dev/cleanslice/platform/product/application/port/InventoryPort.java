@@ -0,0 +1,116 @@
+package dev.cleanslice.platform.product.application.port;
+
+import dev.cleanslice.platform.product.domain.ReservationStatus;
+import dev.cleanslice.platform.product.domain.StockReservation;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port for variant stock and reservations.
+ * Stock is only ever changed by conditional, atomic updates, never by writing back a value
+ * that was read earlier, so concurrent reservations cannot oversell.
+ */
+public interface InventoryPort {
+
+    /**
+     * Find the stock a variant can still reserve.
+     *
+     * @param variantId the variant ID
+     * @return the stock level, or empty if the variant does not exist
+     */
+    Optional<StockLevel> findStockLevel(UUID variantId);
+
+    /**
+     * Find the stock each product's variants can still reserve, summed per product.
+     * Reads only, so it never waits on a reservation that is updating the same counters.
+     *
+     * @param productIds the product IDs
+     * @return the available stock by product ID; products without variants are absent
+     */
+    Map<UUID, Integer> findAvailableByProduct(Collection<UUID> productIds);
+
+    /**
+     * Take stock from a variant if enough is available.
+     *
+     * @param variantId the variant ID
+     * @param quantity the quantity to take
+     * @return true if the stock was taken, false if not enough was available
+     * @throws IllegalArgumentException if the variant does not exist
+     */
+    boolean tryDecrement(UUID variantId, int quantity);
+
+    /**
+     * Return stock to a variant.
+     *
+     * @param variantId the variant ID
+     * @param quantity the quantity to return
+     */
+    void increment(UUID variantId, int quantity);
+
+    /**
+     * Spread the variant's stock over striped counters, so that concurrent reservations
+     * update different rows instead of queueing on one. Re-striping an already striped
+     * variant redistributes its stock.
+     *
+     * @param variantId the variant ID
+     * @param stripes the number of counters
+     * @throws IllegalArgumentException if the variant does not exist
+     */
+    void stripe(UUID variantId, int stripes);
+
+    /**
+     * Fold the variant's striped counters back into a single counter.
+     *
+     * @param variantId the variant ID
+     * @throws IllegalArgumentException if the variant does not exist
+     */
+    void unstripe(UUID variantId);
+
+    /**
+     * Save a new reservation.
+     *
+     * @param reservation the reservation
+     */
+    void saveReservation(StockReservation reservation);
+
+    /**
+     * Find a reservation by ID.
+     *
+     * @param id the reservation ID
+     * @return Optional containing the reservation if found
+     */
+    Optional<StockReservation> findReservation(UUID id);
+
+    /**
+     * Move a reservation from one status to another, unless it has already left {@code from}.
+     *
+     * @param id the reservation ID
+     * @param from the status the reservation must be in
+     * @param to the new status
+     * @return true if this call changed the status
+     */
+    boolean transition(UUID id, ReservationStatus from, ReservationStatus to);
+
+    /**
+     * Confirm an active reservation that has not expired yet.
+     *
+     * @param id the reservation ID
+     * @param now the current time
+     * @return true if this call confirmed the reservation
+     */
+    boolean confirm(UUID id, Instant now);
+
+    /**
+     * Find active reservations whose hold has run out, oldest first.
+     *
+     * @param now the current time
+     * @param limit the maximum number of IDs
+     * @return the reservation IDs
+     */
+    List<UUID> findExpired(Instant now, int limit);
+}
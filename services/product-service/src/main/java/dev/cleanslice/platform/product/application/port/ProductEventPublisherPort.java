@@ -2,6 +2,9 @@ package dev.cleanslice.platform.product.application.port;
 
 import dev.cleanslice.platform.product.domain.Product;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Event publisher port for Product events.
  * This is the interface that defines what the domain needs to publish events.
@@ -16,6 +19,13 @@ public interface ProductEventPublisherPort {
      */
     void publishProductCreated(Product product);
 
+    /**
+     * Publish one created event per product, queued together.
+     *
+     * @param products the created products
+     */
+    void publishProductsCreated(List<Product> products);
+
     /**
      * Publish event when a product is updated.
      *
@@ -23,6 +33,15 @@ public interface ProductEventPublisherPort {
      */
     void publishProductUpdated(Product product);
 
+    /**
+     * Publish event when a product is updated without its aggregate being loaded.
+     *
+     * @param productId the product ID
+     * @param ownerId the product owner ID
+     * @param name the product name
+     */
+    void publishProductUpdated(UUID productId, UUID ownerId, String name);
+
     /**
      * Publish event when a product is published (status changed to PUBLISHED).
      *
@@ -1,9 +1,12 @@
 package dev.cleanslice.platform.product.application.port;
 
+import dev.cleanslice.platform.product.domain.Media;
 import dev.cleanslice.platform.product.domain.Product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -17,10 +20,28 @@ public interface ProductRepositoryPort {
      * Save a product (create or update).
      *
      * @param product the product to save
-     * @return the saved product
+     * @return the saved product, with its new version
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the product carries a version
+     *         and was changed since, or a concurrent transaction changes it first
      */
     Product save(Product product);
 
+    /**
+     * Insert new products with their variants and media in JDBC batches.
+     * The products must not exist yet; nothing is looked up or merged.
+     *
+     * @param products the products to insert
+     */
+    void insertAll(List<Product> products);
+
+    /**
+     * Find which of the given SKUs are already used by a variant.
+     *
+     * @param skus the SKUs to check
+     * @return the SKUs that exist
+     */
+    Set<String> findExistingSkus(Collection<String> skus);
+
     /**
      * Find product by ID.
      *
@@ -38,11 +59,18 @@ public interface ProductRepositoryPort {
     List<Product> findByOwnerId(UUID ownerId);
 
     /**
-     * Find all published products.
+     * Append media after the product's existing media without loading the aggregate.
+     * Sort orders continue from the highest stored one, in list order; the sort order
+     * carried by the given media is ignored. The product's updatedAt is bumped.
      *
-     * @return list of published products
+     * @param productId the product ID
+     * @param media the media to append
+     * @param expectedVersion the version the product must be at, or null for any
+     * @return the appended media as stored
+     * @throws IllegalArgumentException if the product does not exist
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the product is at another version
      */
-    List<Product> findPublishedProducts();
+    AppendedMedia appendMedia(UUID productId, List<Media> media, Long expectedVersion);
 
     /**
      * Delete a product by ID.
@@ -0,0 +1,15 @@
+package dev.cleanslice.platform.product.application.port;
+
+import java.util.UUID;
+
+/**
+ * Stock a variant can still reserve.
+ *
+ * @param stripes the number of stock stripes in hot-SKU mode, or 0 when the stock is a single counter
+ */
+public record StockLevel(UUID variantId, int available, int stripes) {
+
+    public boolean isStriped() {
+        return stripes > 0;
+    }
+}
@@ -1,17 +1,25 @@
 package dev.cleanslice.platform.product.application.usecase;
 
+import dev.cleanslice.platform.product.application.port.AppendedMedia;
+import dev.cleanslice.platform.product.application.port.CatalogProjectionPort;
 import dev.cleanslice.platform.product.application.port.ProductEventPublisherPort;
 import dev.cleanslice.platform.product.application.port.ProductRepositoryPort;
 import dev.cleanslice.platform.product.domain.Media;
-import dev.cleanslice.platform.product.domain.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Use case for attaching media to a product.
  * Demonstrates cross-service coordination (Product + Files services).
+ * <p>
+ * Media is appended without loading the product aggregate, so attaching costs the same
+ * however much media the product already has. Appends are serialized by a row lock on the
+ * product, so they need no retry, but still bump its version.
  */
 @Service
 @Transactional
@@ -19,12 +27,18 @@ public class AttachMediaUseCase {
 
     private final ProductRepositoryPort productRepository;
     private final ProductEventPublisherPort eventPublisher;
+    private final CatalogProjectionPort catalogProjection;
+    private final int maxBulkSize;
 
     public AttachMediaUseCase(
             ProductRepositoryPort productRepository,
-            ProductEventPublisherPort eventPublisher) {
+            ProductEventPublisherPort eventPublisher,
+            CatalogProjectionPort catalogProjection,
+            @Value("${product.media.bulk.max-items:500}") int maxBulkSize) {
         this.productRepository = productRepository;
         this.eventPublisher = eventPublisher;
+        this.catalogProjection = catalogProjection;
+        this.maxBulkSize = maxBulkSize;
     }
 
     /**
@@ -34,24 +48,49 @@ public class AttachMediaUseCase {
      * @param fileId the file ID from Files service
      * @param altText alternative text for the media
      * @param isPrimary whether this is the primary media
-     * @return the updated product
+     * @return the attached media, placed after the existing media
      */
-    public Product execute(UUID productId, UUID fileId, String altText, boolean isPrimary) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+    public Media execute(UUID productId, UUID fileId, String altText, boolean isPrimary) {
+        return executeBulk(productId, List.of(new Attachment(fileId, altText, isPrimary)), null).media().get(0);
+    }
 
-        // Create media using domain model
-        Media media = Media.create(fileId, altText, product.getMediaList().size(), isPrimary);
+    /**
+     * Attach several files to a product at once, in the given order, with one event.
+     *
+     * @param productId the product ID
+     * @param attachments the files to attach
+     * @param expectedVersion the product version the caller last saw, or null for any
+     * @return the attached media, placed after the existing media, and the product's new version
+     * @throws IllegalArgumentException if the product does not exist, or there are no attachments
+     *                                  or more than the configured maximum
+     * @throws OptimisticLockingFailureException if the product is not at the expected version
+     */
+    public AppendedMedia executeBulk(UUID productId, List<Attachment> attachments, Long expectedVersion) {
+        if (attachments.isEmpty() || attachments.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Between 1 and " + maxBulkSize + " media can be attached at once");
+        }
+        List<Media> media = attachments.stream()
+                .map(attachment -> Media.create(attachment.fileId(), attachment.altText(), null, attachment.isPrimary()))
+                .toList();
 
-        // Add media using domain method
-        product.addMedia(media);
+        AppendedMedia appended = productRepository.appendMedia(productId, media, expectedVersion);
 
-        // Save
-        Product savedProduct = productRepository.save(product);
+        // Keep the catalog listing in step with the aggregate
+        catalogProjection.refresh(productId);
 
-        // Publish event
-        eventPublisher.publishProductUpdated(savedProduct);
+        eventPublisher.publishProductUpdated(appended.productId(), appended.ownerId(), appended.productName());
 
-        return savedProduct;
+        return appended;
+    }
+
+    /**
+     * A file to attach.
+     */
+    public record Attachment(UUID fileId, String altText, boolean isPrimary) {
+        public Attachment {
+            if (fileId == null) {
+                throw new IllegalArgumentException("fileId is required");
+            }
+        }
     }
 }
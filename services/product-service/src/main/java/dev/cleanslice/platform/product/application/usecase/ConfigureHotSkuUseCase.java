@@ -0,0 +1,61 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import dev.cleanslice.platform.product.application.port.StockLevel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Use case for switching a variant in and out of hot-SKU mode, e.g. around a flash sale.
+ * In hot-SKU mode the stock is split over striped counters so concurrent reservations
+ * do not all queue on the variant's row lock. The total stock is unchanged by either switch.
+ */
+@Service
+@Transactional
+public class ConfigureHotSkuUseCase {
+
+    private final InventoryPort inventory;
+    private final int maxStripes;
+
+    public ConfigureHotSkuUseCase(InventoryPort inventory,
+                                  @Value("${inventory.hot-sku.max-stripes:64}") int maxStripes) {
+        this.inventory = inventory;
+        this.maxStripes = maxStripes;
+    }
+
+    /**
+     * Stripe the variant's stock.
+     *
+     * @param variantId the variant ID
+     * @param stripes the number of counters, at most the configured maximum
+     * @return the stock level after striping
+     * @throws IllegalArgumentException if the variant does not exist or the stripe count is out of range
+     */
+    public StockLevel enable(UUID variantId, int stripes) {
+        if (stripes < 2 || stripes > maxStripes) {
+            throw new IllegalArgumentException("Stripes must be between 2 and " + maxStripes);
+        }
+        inventory.stripe(variantId, stripes);
+        return stockLevel(variantId);
+    }
+
+    /**
+     * Fold the variant's stock back into a single counter.
+     *
+     * @param variantId the variant ID
+     * @return the stock level after folding
+     * @throws IllegalArgumentException if the variant does not exist
+     */
+    public StockLevel disable(UUID variantId) {
+        inventory.unstripe(variantId);
+        return stockLevel(variantId);
+    }
+
+    private StockLevel stockLevel(UUID variantId) {
+        return inventory.findStockLevel(variantId)
+                .orElseThrow(() -> new IllegalArgumentException("Variant not found: " + variantId));
+    }
+}
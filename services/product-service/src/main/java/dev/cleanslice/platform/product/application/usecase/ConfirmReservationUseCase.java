@@ -0,0 +1,39 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Use case for confirming a reservation, e.g. once the order is paid.
+ * The reserved stock stays taken for good.
+ */
+@Service
+@Transactional
+public class ConfirmReservationUseCase {
+
+    private final InventoryPort inventory;
+
+    public ConfirmReservationUseCase(InventoryPort inventory) {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Confirm a reservation.
+     *
+     * @param reservationId the reservation ID
+     * @throws IllegalArgumentException if the reservation does not exist
+     * @throws IllegalStateException if the reservation is no longer active or its hold has expired
+     */
+    public void execute(UUID reservationId) {
+        if (inventory.findReservation(reservationId).isEmpty()) {
+            throw new IllegalArgumentException("Reservation not found: " + reservationId);
+        }
+        if (!inventory.confirm(reservationId, Instant.now())) {
+            throw new IllegalStateException("Reservation is no longer active: " + reservationId);
+        }
+    }
+}
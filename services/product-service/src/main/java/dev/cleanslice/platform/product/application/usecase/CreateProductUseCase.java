@@ -56,7 +56,8 @@ public class CreateProductUseCase {
                 new ArrayList<>(),
                 new ArrayList<>(),
                 Instant.now(),
-                Instant.now()
+                Instant.now(),
+                null
         );
 
         // Save to repository (infrastructure)
@@ -0,0 +1,65 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for returning the stock of reservations whose hold ran out.
+ * Each reservation is expired in its own short transaction, so the sweep never holds
+ * locks on many stock counters at once while buyers are reserving.
+ */
+@Slf4j
+@Service
+public class ExpireReservationsUseCase {
+
+    private final InventoryPort inventory;
+    private final ReleaseReservationUseCase releaseReservation;
+    private final int batchSize;
+    private final Clock clock;
+
+    public ExpireReservationsUseCase(InventoryPort inventory,
+                                     ReleaseReservationUseCase releaseReservation,
+                                     @Value("${inventory.reservation.expiry.batch-size:500}") int batchSize) {
+        this(inventory, releaseReservation, batchSize, Clock.systemUTC());
+    }
+
+    ExpireReservationsUseCase(InventoryPort inventory,
+                              ReleaseReservationUseCase releaseReservation,
+                              int batchSize,
+                              Clock clock) {
+        this.inventory = inventory;
+        this.releaseReservation = releaseReservation;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Expires due reservations batch by batch until none are left or one fails.
+     *
+     * @return number of reservations expired
+     */
+    public int execute() {
+        int total = 0;
+        List<UUID> due;
+        do {
+            due = inventory.findExpired(clock.instant(), batchSize);
+            for (UUID reservationId : due) {
+                try {
+                    if (releaseReservation.expire(reservationId)) {
+                        total++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to expire reservation {}, will retry on the next run", reservationId, e);
+                    return total;
+                }
+            }
+        } while (due.size() == batchSize);
+        return total;
+    }
+}
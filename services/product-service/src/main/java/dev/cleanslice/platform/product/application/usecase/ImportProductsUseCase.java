@@ -0,0 +1,219 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.ProductStatus;
+import dev.cleanslice.platform.product.domain.Variant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use case for importing many products with their variants from a stream of rows.
+ * <p>
+ * Rows are validated as they arrive and valid products are written in batches, each batch
+ * in its own transaction through {@link ProductImportCommitter}. Invalid rows are reported
+ * and skipped without stopping the import. Batches committed before a failure stay imported.
+ */
+@Service
+public class ImportProductsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportProductsUseCase.class);
+
+    // Column limits of the products and product_variants tables
+    private static final int MAX_NAME_LENGTH = 500;
+    private static final int MAX_VARIANT_NAME_LENGTH = 200;
+    private static final int MAX_SKU_LENGTH = 100;
+    private static final BigDecimal MAX_PRICE = new BigDecimal("100000000");
+
+    private final ProductImportCommitter committer;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ImportProductsUseCase(ProductImportCommitter committer,
+                                 @Value("${product.import.batch-size:500}") int batchSize,
+                                 @Value("${product.import.max-reported-errors:1000}") int maxReportedErrors) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Import batch size must be positive");
+        }
+        this.committer = committer;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports the rows as draft products of the owner.
+     *
+     * @param ownerId the owner of the imported products
+     * @param rows the products to import, read lazily
+     * @return how many products were imported and why the others were not
+     */
+    public ProductImportReport execute(UUID ownerId, Iterator<ProductImportRow> rows) {
+        if (ownerId == null) {
+            throw new IllegalArgumentException("Owner ID cannot be null");
+        }
+
+        var job = new ImportJob(maxReportedErrors);
+        while (rows.hasNext()) {
+            ProductImportRow row = rows.next();
+            job.received++;
+
+            String error = row.error() != null ? row.error() : validate(row);
+            if (error == null) {
+                error = job.claimSkus(row);
+            }
+            if (error != null) {
+                job.fail(row.line(), error);
+                continue;
+            }
+
+            job.add(toProduct(ownerId, row), row.line());
+            if (job.batch.size() >= batchSize) {
+                commitBatch(job);
+            }
+        }
+        commitBatch(job);
+
+        log.info("Imported {} of {} products for owner {}", job.imported, job.received, ownerId);
+        return new ProductImportReport(job.received, job.imported, job.failed,
+                List.copyOf(job.errors), job.failed > job.errors.size());
+    }
+
+    /**
+     * Commits the batch, and if another writer took one of its SKUs in the meantime, retries
+     * it product by product so only the conflicting products are rejected.
+     */
+    private void commitBatch(ImportJob job) {
+        if (job.batch.isEmpty()) {
+            return;
+        }
+        Map<UUID, String> rejected;
+        try {
+            rejected = committer.commit(job.batch);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Import batch of {} products conflicted, retrying one by one", job.batch.size());
+            rejected = new HashMap<>();
+            for (Product product : job.batch) {
+                try {
+                    rejected.putAll(committer.commit(List.of(product)));
+                } catch (DataIntegrityViolationException conflict) {
+                    rejected.put(product.getId(), "Conflicts with existing data");
+                }
+            }
+        }
+
+        job.imported += job.batch.size() - rejected.size();
+        rejected.forEach((productId, message) -> job.fail(job.lines.get(productId), message));
+        job.clearBatch();
+    }
+
+    static String validate(ProductImportRow row) {
+        if (row.name() == null || row.name().isBlank()) {
+            return "Product name cannot be blank";
+        }
+        if (row.name().length() > MAX_NAME_LENGTH) {
+            return "Product name is longer than " + MAX_NAME_LENGTH + " characters";
+        }
+        Set<String> skus = new HashSet<>();
+        for (ProductImportRow.VariantRow variant : row.variants()) {
+            if (variant.name() == null || variant.name().isBlank()) {
+                return "Variant name cannot be blank";
+            }
+            if (variant.name().length() > MAX_VARIANT_NAME_LENGTH) {
+                return "Variant name is longer than " + MAX_VARIANT_NAME_LENGTH + " characters";
+            }
+            if (variant.sku() != null && variant.sku().length() > MAX_SKU_LENGTH) {
+                return "SKU is longer than " + MAX_SKU_LENGTH + " characters";
+            }
+            if (variant.sku() != null && !skus.add(variant.sku())) {
+                return "Duplicate SKU in product: " + variant.sku();
+            }
+            if (variant.price() == null || variant.price().signum() < 0) {
+                return "Price cannot be null or negative";
+            }
+            if (variant.price().scale() > 2 || variant.price().compareTo(MAX_PRICE) >= 0) {
+                return "Price must have at most 8 digits and 2 decimals";
+            }
+            if (variant.stock() != null && variant.stock() < 0) {
+                return "Stock cannot be negative";
+            }
+        }
+        return null;
+    }
+
+    private static Product toProduct(UUID ownerId, ProductImportRow row) {
+        Instant now = Instant.now();
+        List<Variant> variants = row.variants().stream()
+                .map(variant -> new Variant(UUID.randomUUID(), variant.name(), variant.sku(), variant.price(),
+                        variant.stock() != null ? variant.stock() : 0, now, now))
+                .toList();
+        return new Product(UUID.randomUUID(), ownerId, row.name(), row.description(),
+                ProductStatus.DRAFT, variants, List.of(), now, now, null);
+    }
+
+    /**
+     * Progress of one import: the counters, the reported errors and the batch being filled.
+     */
+    private static final class ImportJob {
+        private final int maxReportedErrors;
+        private final List<ProductImportReport.RowError> errors = new ArrayList<>();
+        private final List<Product> batch = new ArrayList<>();
+        private final Map<UUID, Long> lines = new HashMap<>();
+        private final Set<String> batchSkus = new HashSet<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        private ImportJob(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        /**
+         * Reserves the row's SKUs in the current batch. SKUs from earlier batches are
+         * already stored and are caught by the committer.
+         */
+        private String claimSkus(ProductImportRow row) {
+            for (ProductImportRow.VariantRow variant : row.variants()) {
+                if (variant.sku() != null && batchSkus.contains(variant.sku())) {
+                    return "Duplicate SKU in import: " + variant.sku();
+                }
+            }
+            row.variants().stream()
+                    .map(ProductImportRow.VariantRow::sku)
+                    .filter(Objects::nonNull)
+                    .forEach(batchSkus::add);
+            return null;
+        }
+
+        private void add(Product product, long line) {
+            batch.add(product);
+            lines.put(product.getId(), line);
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportReport.RowError(line, message));
+            }
+        }
+
+        private void clearBatch() {
+            batch.clear();
+            lines.clear();
+            batchSkus.clear();
+        }
+    }
+}
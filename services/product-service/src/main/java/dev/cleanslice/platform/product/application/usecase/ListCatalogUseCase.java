@@ -0,0 +1,60 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.CatalogItem;
+import dev.cleanslice.platform.product.application.port.CatalogPage;
+import dev.cleanslice.platform.product.application.port.CatalogProjectionPort;
+import dev.cleanslice.platform.product.application.port.CatalogSort;
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Use case for browsing the published catalog.
+ * Listings come from the catalog projection, one indexed query per page. Stock changes with
+ * every reservation, so it is not projected: one more query reads the current stock of the
+ * page's products from the inventory, and a sold-out product shows as such right away.
+ */
+@Service
+public class ListCatalogUseCase {
+
+    private final CatalogProjectionPort catalogProjection;
+    private final InventoryPort inventory;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ListCatalogUseCase(CatalogProjectionPort catalogProjection,
+                              InventoryPort inventory,
+                              @Value("${catalog.listing.default-page-size:24}") int defaultPageSize,
+                              @Value("${catalog.listing.max-page-size:100}") int maxPageSize) {
+        this.catalogProjection = catalogProjection;
+        this.inventory = inventory;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * @param sort the ordering, or null for newest first
+     * @param page zero-based page number, or null for the first page
+     * @param size page size, or null for the default; capped at the configured maximum
+     * @return the page
+     * @throws IllegalArgumentException if page or size is out of range
+     */
+    public CatalogPage execute(CatalogSort sort, Integer page, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(size, maxPageSize);
+        int pageNumber = page == null ? 0 : page;
+        if (pageSize < 1 || pageNumber < 0) {
+            throw new IllegalArgumentException("Page must not be negative and size must be positive");
+        }
+        CatalogPage listing = catalogProjection.findPage(sort == null ? CatalogSort.NEWEST : sort, pageNumber, pageSize);
+        Map<UUID, Integer> stock = inventory.findAvailableByProduct(
+                listing.items().stream().map(CatalogItem::productId).toList());
+        List<CatalogItem> items = listing.items().stream()
+                .map(item -> item.withTotalStock(stock.getOrDefault(item.productId(), 0)))
+                .toList();
+        return new CatalogPage(items, listing.page(), listing.size(), listing.hasNext());
+    }
+}
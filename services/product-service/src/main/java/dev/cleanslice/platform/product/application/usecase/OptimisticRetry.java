@@ -0,0 +1,72 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-modify-write of the product aggregate in its own transaction and, when it loses
+ * an optimistic version check to a concurrent writer, runs it again on fresh state.
+ * <p>
+ * Only for work that is safe to repeat and carries no precondition from the caller: when the
+ * caller asked for a specific version (If-Match), the conflict is theirs to resolve. Call it
+ * from outside a transaction, otherwise every attempt joins the same, already failed one.
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    private static final long BACKOFF_MILLIS = 20;
+
+    private final TransactionTemplate transactions;
+    private final int maxAttempts;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+                           @Value("${product.concurrency.max-attempts:3}") int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * @param retryable whether a conflict may be retried
+     * @param work the work to run in a transaction
+     * @return the result of the attempt that committed
+     * @throws OptimisticLockingFailureException if the last attempt conflicted
+     */
+    public <T> T execute(boolean retryable, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactions.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (!retryable || attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict (attempt {}/{}), retrying", attempt, maxAttempts, e);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Jittered, so writers that collided once do not collide again in lockstep.
+     */
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(BACKOFF_MILLIS * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a conflicting write", e);
+        }
+    }
+}
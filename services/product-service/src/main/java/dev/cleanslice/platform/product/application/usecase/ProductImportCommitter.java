@@ -0,0 +1,66 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.ProductEventPublisherPort;
+import dev.cleanslice.platform.product.application.port.ProductRepositoryPort;
+import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.Variant;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes one batch of an import: the products and their created events in a single
+ * transaction, so a batch is either fully imported and announced or not at all.
+ */
+@Service
+public class ProductImportCommitter {
+
+    private final ProductRepositoryPort productRepository;
+    private final ProductEventPublisherPort eventPublisher;
+
+    public ProductImportCommitter(ProductRepositoryPort productRepository,
+                                  ProductEventPublisherPort eventPublisher) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Inserts the products whose SKUs are not taken yet and queues their events.
+     *
+     * @param products validated products whose SKUs are unique within the batch
+     * @return why products were left out, by product ID
+     */
+    @Transactional
+    public Map<UUID, String> commit(List<Product> products) {
+        Set<String> existingSkus = productRepository.findExistingSkus(products.stream()
+                .flatMap(product -> product.getVariants().stream())
+                .map(Variant::getSku)
+                .filter(Objects::nonNull)
+                .toList());
+
+        Map<UUID, String> rejected = new HashMap<>();
+        List<Product> accepted = new ArrayList<>(products.size());
+        for (Product product : products) {
+            product.getVariants().stream()
+                    .map(Variant::getSku)
+                    .filter(existingSkus::contains)
+                    .findFirst()
+                    .ifPresentOrElse(
+                            sku -> rejected.put(product.getId(), "SKU already exists: " + sku),
+                            () -> accepted.add(product));
+        }
+
+        if (!accepted.isEmpty()) {
+            productRepository.insertAll(accepted);
+            eventPublisher.publishProductsCreated(accepted);
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Every failed row is counted, but only the first ones are listed.
+ *
+ * @param received the number of products read
+ * @param imported the number of products created
+ * @param failed the number of products rejected
+ * @param errors why products were rejected, by line
+ * @param errorsTruncated whether more products failed than are listed
+ */
+public record ProductImportReport(long received, long imported, long failed,
+                                  List<RowError> errors, boolean errorsTruncated) {
+
+    public record RowError(long line, String message) {
+    }
+}
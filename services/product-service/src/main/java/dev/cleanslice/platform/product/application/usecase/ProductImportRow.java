@@ -0,0 +1,31 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * One product read from an import, before validation.
+ * Rows that could not be parsed carry an error instead of data and are reported as failed.
+ *
+ * @param line the line in the import where the product starts
+ */
+public record ProductImportRow(long line, String name, String description, List<VariantRow> variants, String error) {
+
+    public ProductImportRow {
+        variants = variants != null ? variants : List.of();
+    }
+
+    public static ProductImportRow of(long line, String name, String description, List<VariantRow> variants) {
+        return new ProductImportRow(line, name, description, variants, null);
+    }
+
+    public static ProductImportRow invalid(long line, String error) {
+        return new ProductImportRow(line, null, null, List.of(), error);
+    }
+
+    /**
+     * A variant of the imported product. A missing stock means none.
+     */
+    public record VariantRow(String name, String sku, BigDecimal price, Integer stock) {
+    }
+}
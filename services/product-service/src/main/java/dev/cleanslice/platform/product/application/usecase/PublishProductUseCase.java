@@ -1,28 +1,35 @@
 package dev.cleanslice.platform.product.application.usecase;
 
+import dev.cleanslice.platform.product.application.port.CatalogProjectionPort;
 import dev.cleanslice.platform.product.application.port.ProductEventPublisherPort;
 import dev.cleanslice.platform.product.application.port.ProductRepositoryPort;
 import dev.cleanslice.platform.product.domain.Product;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 /**
  * Use case for publishing a product (changing status from DRAFT to PUBLISHED).
+ * Each attempt runs in its own transaction through {@link OptimisticRetry}.
  */
 @Service
-@Transactional
 public class PublishProductUseCase {
 
     private final ProductRepositoryPort productRepository;
     private final ProductEventPublisherPort eventPublisher;
+    private final CatalogProjectionPort catalogProjection;
+    private final OptimisticRetry optimisticRetry;
 
     public PublishProductUseCase(
             ProductRepositoryPort productRepository,
-            ProductEventPublisherPort eventPublisher) {
+            ProductEventPublisherPort eventPublisher,
+            CatalogProjectionPort catalogProjection,
+            OptimisticRetry optimisticRetry) {
         this.productRepository = productRepository;
         this.eventPublisher = eventPublisher;
+        this.catalogProjection = catalogProjection;
+        this.optimisticRetry = optimisticRetry;
     }
 
     /**
@@ -33,8 +40,30 @@ public class PublishProductUseCase {
      * @throws IllegalArgumentException if product not found
      */
     public Product execute(UUID productId) {
+        return execute(productId, null);
+    }
+
+    /**
+     * Publish a product if it is still at the expected version.
+     * Without an expected version, a conflicting concurrent write is retried on fresh state.
+     *
+     * @param productId the product ID
+     * @param expectedVersion the version the caller last saw, or null for any
+     * @return the published product
+     * @throws IllegalArgumentException if product not found
+     * @throws OptimisticLockingFailureException if the product is at another version
+     */
+    public Product execute(UUID productId, Long expectedVersion) {
+        return optimisticRetry.execute(expectedVersion == null, () -> publish(productId, expectedVersion));
+    }
+
+    private Product publish(UUID productId, Long expectedVersion) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        if (expectedVersion != null && !expectedVersion.equals(product.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Product " + productId + " is at version " + product.getVersion() + ", not " + expectedVersion);
+        }
 
         // Use domain method to publish
         product.publish();
@@ -42,6 +71,9 @@ public class PublishProductUseCase {
         // Save updated product
         Product savedProduct = productRepository.save(product);
 
+        // Keep the catalog listing in step with the aggregate
+        catalogProjection.refresh(savedProduct.getId());
+
         // Publish event
         eventPublisher.publishProductPublished(savedProduct);
 
@@ -0,0 +1,57 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import dev.cleanslice.platform.product.domain.ReservationStatus;
+import dev.cleanslice.platform.product.domain.StockReservation;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Use case for ending an active reservation without a sale and returning its stock.
+ * The status change is conditional, so the stock is returned once however many
+ * callers release or expire the same reservation.
+ */
+@Service
+@Transactional
+public class ReleaseReservationUseCase {
+
+    private final InventoryPort inventory;
+
+    public ReleaseReservationUseCase(InventoryPort inventory) {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Release a reservation, e.g. when the buyer abandons the checkout.
+     *
+     * @param reservationId the reservation ID
+     * @return true if this call returned the stock, false if the reservation had already ended
+     * @throws IllegalArgumentException if the reservation does not exist
+     */
+    public boolean execute(UUID reservationId) {
+        return end(reservationId, ReservationStatus.RELEASED);
+    }
+
+    /**
+     * Expire a reservation whose hold has run out.
+     *
+     * @param reservationId the reservation ID
+     * @return true if this call returned the stock
+     * @throws IllegalArgumentException if the reservation does not exist
+     */
+    public boolean expire(UUID reservationId) {
+        return end(reservationId, ReservationStatus.EXPIRED);
+    }
+
+    private boolean end(UUID reservationId, ReservationStatus status) {
+        StockReservation reservation = inventory.findReservation(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("Reservation not found: " + reservationId));
+        if (!inventory.transition(reservationId, ReservationStatus.ACTIVE, status)) {
+            return false;
+        }
+        inventory.increment(reservation.getVariantId(), reservation.getQuantity());
+        return true;
+    }
+}
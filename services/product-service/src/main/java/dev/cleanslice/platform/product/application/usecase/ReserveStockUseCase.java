@@ -0,0 +1,47 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import dev.cleanslice.platform.product.domain.StockReservation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Use case for reserving variant stock for a buyer.
+ * The stock is taken right away with a conditional decrement, so a reservation that
+ * succeeds is always covered, and is returned if the reservation is released or expires.
+ */
+@Service
+@Transactional
+public class ReserveStockUseCase {
+
+    private final InventoryPort inventory;
+    private final Duration hold;
+
+    public ReserveStockUseCase(InventoryPort inventory,
+                               @Value("${inventory.reservation.hold:15m}") Duration hold) {
+        this.inventory = inventory;
+        this.hold = hold;
+    }
+
+    /**
+     * Reserve stock of a variant.
+     *
+     * @param variantId the variant ID
+     * @param quantity the quantity to reserve
+     * @return the active reservation
+     * @throws IllegalArgumentException if the variant does not exist or the quantity is not positive
+     * @throws IllegalStateException if not enough stock is available
+     */
+    public StockReservation execute(UUID variantId, int quantity) {
+        StockReservation reservation = StockReservation.create(variantId, quantity, hold);
+        if (!inventory.tryDecrement(variantId, quantity)) {
+            throw new IllegalStateException("Insufficient stock for variant: " + variantId);
+        }
+        inventory.saveReservation(reservation);
+        return reservation;
+    }
+}
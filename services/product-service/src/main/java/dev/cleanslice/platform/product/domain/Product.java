@@ -19,6 +19,7 @@ public class Product {
     private final List<Media> mediaList;
     private final Instant createdAt;
     private Instant updatedAt;
+    private Long version; // Optimistic lock version; null until first saved
 
     // Default constructor
     public Product() {
@@ -41,7 +42,7 @@ public class Product {
     // Full constructor (for reconstruction from persistence)
     public Product(UUID id, UUID ownerId, String name, String description, 
                   ProductStatus status, List<Variant> variants, List<Media> mediaList,
-                  Instant createdAt, Instant updatedAt) {
+                  Instant createdAt, Instant updatedAt, Long version) {
         this.id = id;
         this.ownerId = ownerId;
         this.name = name;
@@ -51,6 +52,7 @@ public class Product {
         this.mediaList = mediaList != null ? new ArrayList<>(mediaList) : new ArrayList<>();
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     public void publish() {
@@ -0,0 +1,11 @@
+package dev.cleanslice.platform.product.domain;
+
+/**
+ * Lifecycle of a stock reservation. Only ACTIVE reservations hold stock that can still be returned.
+ */
+public enum ReservationStatus {
+    ACTIVE,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
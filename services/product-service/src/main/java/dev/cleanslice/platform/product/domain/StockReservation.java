@@ -0,0 +1,49 @@
+package dev.cleanslice.platform.product.domain;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Stock held for a buyer until it is confirmed, released, or its hold expires.
+ * The stock itself is taken from the variant when the reservation is made.
+ */
+@Getter
+public class StockReservation {
+
+    private final UUID id;
+    private final UUID variantId;
+    private final int quantity;
+    private final ReservationStatus status;
+    private final Instant expiresAt;
+    private final Instant createdAt;
+
+    // Full constructor (for reconstruction from persistence)
+    public StockReservation(UUID id, UUID variantId, int quantity, ReservationStatus status,
+                            Instant expiresAt, Instant createdAt) {
+        this.id = id;
+        this.variantId = variantId;
+        this.quantity = quantity;
+        this.status = status;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+
+    public static StockReservation create(UUID variantId, int quantity, Duration hold) {
+        if (variantId == null) {
+            throw new IllegalArgumentException("Variant ID cannot be null");
+        }
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Reserved quantity must be positive");
+        }
+        Instant now = Instant.now();
+        return new StockReservation(UUID.randomUUID(), variantId, quantity, ReservationStatus.ACTIVE,
+                now.plus(hold), now);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -15,7 +15,7 @@ public class Variant {
     @Setter
     private String sku;
     private BigDecimal price;
-    private Integer stock;
+    private Integer stock; // Available when loaded; changed only through InventoryPort
     private final Instant createdAt;
     private Instant updatedAt;
 
@@ -43,15 +43,4 @@ public class Variant {
         this.price = newPrice;
         this.updatedAt = Instant.now();
     }
-
-    public void adjustStock(Integer adjustment) {
-        if (adjustment == null) {
-            throw new IllegalArgumentException("Stock adjustment cannot be null");
-        }
-        this.stock += adjustment;
-        if (this.stock < 0) {
-            this.stock = 0;
-        }
-        this.updatedAt = Instant.now();
-    }
 }
@@ -0,0 +1,12 @@
+package dev.cleanslice.platform.product.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the service's background jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
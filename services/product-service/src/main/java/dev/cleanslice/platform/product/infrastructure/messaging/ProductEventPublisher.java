@@ -1,18 +1,20 @@
 package dev.cleanslice.platform.product.infrastructure.messaging;
 
 import dev.cleanslice.platform.common.events.ProductCreatedEvent;
+import dev.cleanslice.platform.common.infra.outbox.OutboxWriter;
 import dev.cleanslice.platform.product.application.port.ProductEventPublisherPort;
 import dev.cleanslice.platform.product.domain.Product;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import java.nio.charset.StandardCharsets;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Kafka adapter for publishing product events.
  * Implements the port defined in application layer.
+ * Events go through the transactional outbox and reach Kafka after the use case commits.
  */
 @Component
 public class ProductEventPublisher implements ProductEventPublisherPort {
@@ -20,10 +22,10 @@ public class ProductEventPublisher implements ProductEventPublisherPort {
     private static final Logger log = LoggerFactory.getLogger(ProductEventPublisher.class);
     private static final String TOPIC_PRODUCT_EVENTS = "products.events.v1";
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outbox;
 
-    public ProductEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public ProductEventPublisher(OutboxWriter outbox) {
+        this.outbox = outbox;
     }
 
     @Override
@@ -36,14 +38,26 @@ public class ProductEventPublisher implements ProductEventPublisherPort {
         publishEvent(event, product.getId().toString(), "ProductCreated");
     }
 
+    @Override
+    public void publishProductsCreated(List<Product> products) {
+        List<OutboxWriter.Message> messages = products.stream()
+            .map(product -> new OutboxWriter.Message(
+                product.getId().toString(),
+                new ProductCreatedEvent(product.getId(), product.getOwnerId(), product.getName())))
+            .toList();
+        outbox.appendAll(TOPIC_PRODUCT_EVENTS, messages);
+        log.info("Queued {} ProductCreated events", messages.size());
+    }
+
     @Override
     public void publishProductUpdated(Product product) {
-        ProductCreatedEvent event = new ProductCreatedEvent(
-            product.getId(),
-            product.getOwnerId(),
-            product.getName()
-        );
-        publishEvent(event, product.getId().toString(), "ProductUpdated");
+        publishProductUpdated(product.getId(), product.getOwnerId(), product.getName());
+    }
+
+    @Override
+    public void publishProductUpdated(UUID productId, UUID ownerId, String name) {
+        ProductCreatedEvent event = new ProductCreatedEvent(productId, ownerId, name);
+        publishEvent(event, productId.toString(), "ProductUpdated");
     }
 
     @Override
@@ -68,16 +82,9 @@ public class ProductEventPublisher implements ProductEventPublisherPort {
         publishEvent(event, productId, "ProductDeleted");
     }
 
-    @SuppressWarnings("null")
     private void publishEvent(Object event, String key, String eventType) {
-        try {
-            ProducerRecord<String, Object> rec = new ProducerRecord<>(TOPIC_PRODUCT_EVENTS, key, event);
-            rec.headers().add("__TypeId__", event.getClass().getName().getBytes(StandardCharsets.UTF_8));
-            kafkaTemplate.send(rec);
-            log.info("Published event: {} for product: {}", eventType, key);
-        } catch (Exception e) {
-            log.error("Failed to publish event: {} for product: {}", eventType, key, e);
-            // In production, you might want to use retry mechanism or dead letter queue
-        }
+        // Failing to queue the event fails the use case, so no change goes unpublished
+        outbox.append(TOPIC_PRODUCT_EVENTS, key, event);
+        log.info("Queued event: {} for product: {}", eventType, key);
     }
 }
@@ -0,0 +1,137 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.adapter;
+
+import dev.cleanslice.platform.product.application.port.CatalogItem;
+import dev.cleanslice.platform.product.application.port.CatalogPage;
+import dev.cleanslice.platform.product.application.port.CatalogProjectionPort;
+import dev.cleanslice.platform.product.application.port.CatalogSort;
+import dev.cleanslice.platform.product.infrastructure.persistence.entity.CatalogProductEntity;
+import dev.cleanslice.platform.product.infrastructure.persistence.repository.JpaCatalogProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/// Adapter that maintains and serves the catalog read model.
+/// Rows are rebuilt in SQL from the product tables, so any write path only needs the product id
+/// and never has to load the aggregate. The statements run through the EntityManager, which
+/// flushes pending aggregate changes of the same transaction first.
+@Slf4j
+@Component
+public class CatalogProjectionAdapter implements CatalogProjectionPort {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO catalog_products (product_id, owner_id, name, description, min_price, max_price,
+                                          variant_count, primary_file_id, primary_alt_text,
+                                          media_count, published_at, updated_at)
+            SELECT p.id, p.owner_id, p.name, p.description, v.min_price, v.max_price,
+                   v.variant_count, pm.file_id, pm.alt_text,
+                   (SELECT count(*) FROM product_media m WHERE m.product_id = p.id),
+                   now(), p.updated_at
+            FROM products p
+            CROSS JOIN LATERAL (
+                SELECT min(price) AS min_price, max(price) AS max_price, count(*) AS variant_count
+                FROM product_variants WHERE product_id = p.id
+            ) v
+            LEFT JOIN LATERAL (
+                SELECT file_id, alt_text FROM product_media
+                WHERE product_id = p.id
+                ORDER BY is_primary DESC, sort_order ASC
+                LIMIT 1
+            ) pm ON true
+            WHERE p.status = 'PUBLISHED' %s
+            ON CONFLICT (product_id) DO UPDATE SET
+                owner_id = EXCLUDED.owner_id,
+                name = EXCLUDED.name,
+                description = EXCLUDED.description,
+                min_price = EXCLUDED.min_price,
+                max_price = EXCLUDED.max_price,
+                variant_count = EXCLUDED.variant_count,
+                primary_file_id = EXCLUDED.primary_file_id,
+                primary_alt_text = EXCLUDED.primary_alt_text,
+                media_count = EXCLUDED.media_count,
+                updated_at = EXCLUDED.updated_at""";
+
+    private static final String DELETE_UNPUBLISHED_SQL = """
+            DELETE FROM catalog_products c
+            WHERE c.product_id = :productId
+              AND NOT EXISTS (SELECT 1 FROM products p WHERE p.id = c.product_id AND p.status = 'PUBLISHED')""";
+
+    private static final String UPSERT_ONE_SQL = UPSERT_SQL.formatted("AND p.id = :productId");
+    private static final String UPSERT_ALL_SQL = UPSERT_SQL.formatted("");
+
+    private final EntityManager entityManager;
+    private final JpaCatalogProductRepository catalogRepository;
+
+    public CatalogProjectionAdapter(EntityManager entityManager, JpaCatalogProductRepository catalogRepository) {
+        this.entityManager = entityManager;
+        this.catalogRepository = catalogRepository;
+    }
+
+    @Override
+    public void refresh(UUID productId) {
+        int upserted = entityManager.createNativeQuery(UPSERT_ONE_SQL)
+                .setParameter("productId", productId)
+                .executeUpdate();
+        if (upserted == 0) {
+            entityManager.createNativeQuery(DELETE_UNPUBLISHED_SQL)
+                    .setParameter("productId", productId)
+                    .executeUpdate();
+        }
+    }
+
+    /**
+     * Builds the catalog for products published before the read model existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (catalogRepository.count() == 0) {
+            int rows = entityManager.createNativeQuery(UPSERT_ALL_SQL).executeUpdate();
+            if (rows > 0) {
+                log.info("Backfilled catalog projection with {} published products", rows);
+            }
+        }
+    }
+
+    @Override
+    public CatalogPage findPage(CatalogSort sort, int page, int size) {
+        var slice = catalogRepository.findAllBy(PageRequest.of(page, size, toSort(sort)));
+        return new CatalogPage(slice.map(CatalogProjectionAdapter::toItem).getContent(), page, size, slice.hasNext());
+    }
+
+    private static Sort toSort(CatalogSort sort) {
+        Sort order = switch (sort) {
+            case NEWEST -> Sort.by(Sort.Direction.DESC, "publishedAt");
+            case NAME -> Sort.by(Sort.Direction.ASC, "name");
+            case PRICE_LOW_TO_HIGH -> Sort.by(Sort.Order.asc("minPrice").nullsLast());
+            // Most expensive variant first; products without variants have no price and go last
+            case PRICE_HIGH_TO_LOW -> Sort.by(Sort.Order.desc("maxPrice").nullsLast());
+        };
+        // Stable order across pages for equal sort keys
+        return order.and(Sort.by(order.iterator().next().getDirection(), "productId"));
+    }
+
+    private static CatalogItem toItem(CatalogProductEntity entity) {
+        return new CatalogItem(
+                entity.getProductId(),
+                entity.getOwnerId(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getMinPrice(),
+                entity.getMaxPrice(),
+                0, // Not projected; ListCatalogUseCase reads it from the inventory
+                entity.getVariantCount(),
+                entity.getPrimaryFileId(),
+                entity.getPrimaryAltText(),
+                entity.getMediaCount(),
+                entity.getPublishedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
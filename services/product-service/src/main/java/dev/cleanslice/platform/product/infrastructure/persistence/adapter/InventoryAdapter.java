@@ -0,0 +1,295 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.adapter;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import dev.cleanslice.platform.product.application.port.StockLevel;
+import dev.cleanslice.platform.product.domain.ReservationStatus;
+import dev.cleanslice.platform.product.domain.StockReservation;
+import dev.cleanslice.platform.product.infrastructure.persistence.entity.StockReservationEntity;
+import dev.cleanslice.platform.product.infrastructure.persistence.repository.JpaStockReservationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/// Adapter that implements InventoryPort with conditional SQL updates.
+/// A variant's stock is either one counter, the `stock` column of its row, or in hot-SKU mode
+/// a set of striped counters in `variant_stock_stripes`. A reservation in hot-SKU mode
+/// decrements one stripe picked at random, so concurrent buyers of the same variant mostly
+/// lock different rows. Only when no single stripe can cover a quantity does it fall back to
+/// locking the variant row and all its stripes, which is also the lock taken to switch modes.
+@Component
+public class InventoryAdapter implements InventoryPort {
+
+    private static final String MODE_SQL = "SELECT stock_stripes FROM product_variants WHERE id = :variantId";
+    private static final String LOCK_VARIANT_SQL = MODE_SQL + " FOR UPDATE";
+    private static final String ROW_STOCK_SQL = "SELECT stock FROM product_variants WHERE id = :variantId";
+    private static final String DECREMENT_ROW_SQL = """
+            UPDATE product_variants SET stock = stock - :quantity
+            WHERE id = :variantId AND stock >= :quantity""";
+    private static final String INCREMENT_ROW_SQL = """
+            UPDATE product_variants SET stock = stock + :quantity WHERE id = :variantId""";
+    private static final String STRIPE_VARIANT_SQL = """
+            UPDATE product_variants SET stock = 0, stock_stripes = :stripes WHERE id = :variantId""";
+    private static final String UNSTRIPE_VARIANT_SQL = """
+            UPDATE product_variants SET stock = :stock, stock_stripes = NULL WHERE id = :variantId""";
+
+    /**
+     * Claims one stripe that holds enough stock and that no other transaction has locked,
+     * starting the search at a random stripe. It never waits on a stripe lock, so a buyer
+     * holds at most the stripe it took from and can always go on to lock the variant row.
+     */
+    private static final String DECREMENT_ANY_STRIPE_SQL = """
+            UPDATE variant_stock_stripes SET stock = stock - :quantity
+            WHERE variant_id = :variantId AND stripe = (
+                SELECT stripe FROM variant_stock_stripes
+                WHERE variant_id = :variantId AND stock >= :quantity
+                ORDER BY mod(stripe + :offset, :stripes)
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED)""";
+    private static final String INCREMENT_STRIPE_SQL = """
+            UPDATE variant_stock_stripes SET stock = stock + :quantity
+            WHERE variant_id = :variantId AND stripe = :stripe""";
+    private static final String SET_STRIPE_SQL = """
+            UPDATE variant_stock_stripes SET stock = :stock
+            WHERE variant_id = :variantId AND stripe = :stripe""";
+    private static final String LOCK_STRIPES_SQL = """
+            SELECT stripe, stock FROM variant_stock_stripes
+            WHERE variant_id = :variantId ORDER BY stripe FOR UPDATE""";
+    private static final String SUM_STRIPES_SQL = """
+            SELECT coalesce(sum(stock), 0) FROM variant_stock_stripes WHERE variant_id = :variantId""";
+    private static final String INSERT_STRIPE_SQL = """
+            INSERT INTO variant_stock_stripes (variant_id, stripe, stock) VALUES (:variantId, :stripe, :stock)""";
+    /** JPQL; availableStock is the variant row's stock plus its stripes. */
+    private static final String AVAILABLE_BY_PRODUCT_JPQL = """
+            SELECT v.product.id, sum(v.availableStock) FROM VariantEntity v
+            WHERE v.product.id IN :productIds
+            GROUP BY v.product.id""";
+    private static final String DELETE_STRIPES_SQL = "DELETE FROM variant_stock_stripes WHERE variant_id = :variantId";
+
+    private final EntityManager entityManager;
+    private final JpaStockReservationRepository reservationRepository;
+
+    public InventoryAdapter(EntityManager entityManager, JpaStockReservationRepository reservationRepository) {
+        this.entityManager = entityManager;
+        this.reservationRepository = reservationRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StockLevel> findStockLevel(UUID variantId) {
+        List<?> mode = query(MODE_SQL, variantId).getResultList();
+        if (mode.isEmpty()) {
+            return Optional.empty();
+        }
+        int stripes = mode.get(0) == null ? 0 : ((Number) mode.get(0)).intValue();
+        int available = number(query(ROW_STOCK_SQL, variantId).getSingleResult())
+                + (stripes > 0 ? number(query(SUM_STRIPES_SQL, variantId).getSingleResult()) : 0);
+        return Optional.of(new StockLevel(variantId, available, stripes));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Integer> findAvailableByProduct(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = entityManager.createQuery(AVAILABLE_BY_PRODUCT_JPQL, Object[].class)
+                .setParameter("productIds", productIds)
+                .getResultList();
+        Map<UUID, Integer> available = new HashMap<>();
+        for (Object[] row : rows) {
+            available.put((UUID) row[0], number(row[1]));
+        }
+        return available;
+    }
+
+    @Override
+    @Transactional
+    public boolean tryDecrement(UUID variantId, int quantity) {
+        int stripes = stripesOf(variantId, MODE_SQL);
+        if (stripes == 0) {
+            return update(DECREMENT_ROW_SQL, variantId, quantity) == 1;
+        }
+        int decremented = entityManager.createNativeQuery(DECREMENT_ANY_STRIPE_SQL)
+                .setParameter("variantId", variantId)
+                .setParameter("quantity", quantity)
+                .setParameter("offset", ThreadLocalRandom.current().nextInt(stripes))
+                .setParameter("stripes", stripes)
+                .executeUpdate();
+        return decremented == 1 || drain(variantId, quantity);
+    }
+
+    /**
+     * Slow path once the stock is spread too thin for any one stripe, every stripe that holds
+     * enough is busy, or the variant switched modes under us: takes the quantity from several
+     * stripes under the variant's lock.
+     */
+    private boolean drain(UUID variantId, int quantity) {
+        if (stripesOf(variantId, LOCK_VARIANT_SQL) == 0) {
+            return update(DECREMENT_ROW_SQL, variantId, quantity) == 1;
+        }
+        List<Object[]> stripes = lockStripes(variantId);
+        int available = stripes.stream().mapToInt(stripe -> number(stripe[1])).sum();
+        if (available < quantity) {
+            return false;
+        }
+        int remaining = quantity;
+        for (Object[] stripe : stripes) {
+            int taken = Math.min(number(stripe[1]), remaining);
+            if (taken > 0) {
+                setStripe(variantId, number(stripe[0]), number(stripe[1]) - taken);
+                remaining -= taken;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void increment(UUID variantId, int quantity) {
+        int stripes = stripesOf(variantId, MODE_SQL);
+        if (stripes == 0) {
+            update(INCREMENT_ROW_SQL, variantId, quantity);
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        if (updateStripe(INCREMENT_STRIPE_SQL, variantId, stripe, quantity) == 0) {
+            // The variant was re-striped or unstriped meanwhile; retry under its lock
+            int current = stripesOf(variantId, LOCK_VARIANT_SQL);
+            if (current == 0) {
+                update(INCREMENT_ROW_SQL, variantId, quantity);
+            } else {
+                updateStripe(INCREMENT_STRIPE_SQL, variantId, 0, quantity);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void stripe(UUID variantId, int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int total = foldStripes(variantId);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int share = total / stripes + (stripe < total % stripes ? 1 : 0);
+            entityManager.createNativeQuery(INSERT_STRIPE_SQL)
+                    .setParameter("variantId", variantId)
+                    .setParameter("stripe", stripe)
+                    .setParameter("stock", share)
+                    .executeUpdate();
+        }
+        entityManager.createNativeQuery(STRIPE_VARIANT_SQL)
+                .setParameter("variantId", variantId)
+                .setParameter("stripes", stripes)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void unstripe(UUID variantId) {
+        int total = foldStripes(variantId);
+        entityManager.createNativeQuery(UNSTRIPE_VARIANT_SQL)
+                .setParameter("variantId", variantId)
+                .setParameter("stock", total)
+                .executeUpdate();
+    }
+
+    /**
+     * Locks the variant and its stripes, deletes the stripes and returns the variant's whole stock.
+     */
+    private int foldStripes(UUID variantId) {
+        if (query(LOCK_VARIANT_SQL, variantId).getResultList().isEmpty()) {
+            throw new IllegalArgumentException("Variant not found: " + variantId);
+        }
+        int total = number(query(ROW_STOCK_SQL, variantId).getSingleResult())
+                + lockStripes(variantId).stream().mapToInt(stripe -> number(stripe[1])).sum();
+        query(DELETE_STRIPES_SQL, variantId).executeUpdate();
+        return total;
+    }
+
+    @Override
+    public void saveReservation(StockReservation reservation) {
+        reservationRepository.save(StockReservationEntity.builder()
+                .id(reservation.getId())
+                .variantId(reservation.getVariantId())
+                .quantity(reservation.getQuantity())
+                .status(reservation.getStatus())
+                .expiresAt(reservation.getExpiresAt())
+                .createdAt(reservation.getCreatedAt())
+                .build());
+    }
+
+    @Override
+    public Optional<StockReservation> findReservation(UUID id) {
+        return reservationRepository.findById(id)
+                .map(entity -> new StockReservation(entity.getId(), entity.getVariantId(), entity.getQuantity(),
+                        entity.getStatus(), entity.getExpiresAt(), entity.getCreatedAt()));
+    }
+
+    @Override
+    @Transactional
+    public boolean transition(UUID id, ReservationStatus from, ReservationStatus to) {
+        return reservationRepository.transition(id, from, to) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean confirm(UUID id, Instant now) {
+        return reservationRepository.confirm(id, now) == 1;
+    }
+
+    @Override
+    public List<UUID> findExpired(Instant now, int limit) {
+        return reservationRepository.findExpiredIds(now, PageRequest.of(0, limit));
+    }
+
+    private int stripesOf(UUID variantId, String sql) {
+        List<?> mode = query(sql, variantId).getResultList();
+        if (mode.isEmpty()) {
+            throw new IllegalArgumentException("Variant not found: " + variantId);
+        }
+        return mode.get(0) == null ? 0 : ((Number) mode.get(0)).intValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> lockStripes(UUID variantId) {
+        return query(LOCK_STRIPES_SQL, variantId).getResultList();
+    }
+
+    private Query query(String sql, UUID variantId) {
+        return entityManager.createNativeQuery(sql).setParameter("variantId", variantId);
+    }
+
+    private int update(String sql, UUID variantId, int quantity) {
+        return query(sql, variantId).setParameter("quantity", quantity).executeUpdate();
+    }
+
+    private int updateStripe(String sql, UUID variantId, int stripe, int quantity) {
+        return query(sql, variantId)
+                .setParameter("stripe", stripe)
+                .setParameter("quantity", quantity)
+                .executeUpdate();
+    }
+
+    private void setStripe(UUID variantId, int stripe, int stock) {
+        query(SET_STRIPE_SQL, variantId)
+                .setParameter("stripe", stripe)
+                .setParameter("stock", stock)
+                .executeUpdate();
+    }
+
+    private static int number(Object value) {
+        return ((Number) value).intValue();
+    }
+}
@@ -1,15 +1,25 @@
 package dev.cleanslice.platform.product.infrastructure.persistence.adapter;
 
+import dev.cleanslice.platform.product.application.port.AppendedMedia;
 import dev.cleanslice.platform.product.application.port.ProductRepositoryPort;
+import dev.cleanslice.platform.product.domain.Media;
 import dev.cleanslice.platform.product.domain.Product;
-import dev.cleanslice.platform.product.domain.ProductStatus;
+import dev.cleanslice.platform.product.infrastructure.persistence.entity.MediaEntity;
 import dev.cleanslice.platform.product.infrastructure.persistence.entity.ProductEntity;
 import dev.cleanslice.platform.product.infrastructure.persistence.mapper.ProductMapper;
 import dev.cleanslice.platform.product.infrastructure.persistence.repository.JpaProductRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -17,42 +27,115 @@ import java.util.stream.Collectors;
 /// This is the infrastructure implementation of the port defined in application layer.
 /// Key pattern: Domain depends on Port (interface), this adapter implements the Port.
 /// Domain never knows about JPA - that's hexagonal architecture in action!
+/// Reads load whole aggregates with one query per collection (see JpaProductRepository),
+/// never one lazy load per product.
 @Component
 public class ProductRepositoryAdapter implements ProductRepositoryPort {
 
     private final JpaProductRepository jpaRepository;
     private final ProductMapper mapper;
+    private final EntityManager entityManager;
 
-    public ProductRepositoryAdapter(JpaProductRepository jpaRepository, ProductMapper mapper) {
+    public ProductRepositoryAdapter(JpaProductRepository jpaRepository, ProductMapper mapper,
+                                    EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
+    /// Existing products are updated in place on their managed entity, so only changed columns and
+    /// added or removed children are written, and nothing is merged. When the product was loaded
+    /// earlier in the same transaction its collections are already in the persistence context.
+    /// A product carrying a version must still be at that version, and the write is flushed right
+    /// away so a concurrent update fails here and the returned product has its new version.
     @Override
+    @Transactional
     public Product save(Product product) {
-        ProductEntity entity = mapper.toEntity(product);
-        ProductEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        Optional<ProductEntity> existing = jpaRepository.findById(product.getId());
+        if (existing.isEmpty()) {
+            ProductEntity entity = mapper.toEntity(product);
+            entityManager.persist(entity);
+            return mapper.toDomain(entity);
+        }
+        ProductEntity entity = existing.get();
+        checkVersion(entity, product.getVersion());
+        mapper.updateEntity(product, entity);
+        jpaRepository.flush();
+        return mapper.toDomain(entity);
     }
 
+    /// Hibernate groups the inserts into JDBC batches (hibernate.jdbc.batch_size). The flush goes
+    /// through the Spring Data repository so constraint violations surface as
+    /// DataIntegrityViolationException, and the persistence context is cleared afterwards so it
+    /// does not grow across the batches of a long import.
     @Override
+    @Transactional
+    public void insertAll(List<Product> products) {
+        for (Product product : products) {
+            entityManager.persist(mapper.toEntity(product));
+        }
+        jpaRepository.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingSkus(Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExistingSkus(skus));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(UUID id) {
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        return jpaRepository.findByIdWithVariants(id)
+                .map(product -> {
+                    jpaRepository.fetchMedia(List.of(product));
+                    return mapper.toDomain(product);
+                });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findByOwnerId(UUID ownerId) {
-        return jpaRepository.findByOwnerId(ownerId).stream()
+        List<ProductEntity> products = jpaRepository.findByOwnerIdWithVariants(ownerId);
+        if (!products.isEmpty()) {
+            jpaRepository.fetchMedia(products);
+        }
+        return products.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    /// The product row is locked first, so the highest sort order read next cannot change
+    /// before the new rows are written. The media collection is never loaded.
     @Override
-    public List<Product> findPublishedProducts() {
-        return jpaRepository.findByStatus(ProductStatus.PUBLISHED).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    @Transactional
+    public AppendedMedia appendMedia(UUID productId, List<Media> media, Long expectedVersion) {
+        ProductEntity product = jpaRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        checkVersion(product, expectedVersion);
+        int sortOrder = jpaRepository.findMaxMediaSortOrder(productId).map(max -> max + 1).orElse(0);
+
+        List<Media> appended = new ArrayList<>(media.size());
+        for (Media item : media) {
+            MediaEntity entity = mapper.toMediaEntity(item, product);
+            entity.setSortOrder(sortOrder++);
+            entityManager.persist(entity);
+            appended.add(mapper.toMediaDomain(entity));
+        }
+        product.setUpdatedAt(Instant.now());
+        jpaRepository.flush();
+        return new AppendedMedia(productId, product.getOwnerId(), product.getName(), appended);
+    }
+
+    private static void checkVersion(ProductEntity entity, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new OptimisticLockingFailureException("Product " + entity.getId() + " is at version "
+                    + entity.getVersion() + ", not " + expectedVersion);
+        }
     }
 
     @Override
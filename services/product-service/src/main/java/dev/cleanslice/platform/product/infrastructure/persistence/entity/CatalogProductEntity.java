@@ -0,0 +1,68 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the catalog read model.
+ * One row per published product, written only by CatalogProjectionAdapter.
+ * The newest, name and low-to-high price sorts each have their own index so a page is a
+ * single index range scan. High-to-low price orders by max price with nulls last, which a
+ * plain descending index cannot serve.
+ * Stock is deliberately not kept here: it changes with every reservation, and refreshing this
+ * row on that path would bring back the single hot row that stock striping removes.
+ */
+@Entity
+@Table(name = "catalog_products", indexes = {
+        @Index(name = "idx_catalog_products_published", columnList = "published_at, product_id"),
+        @Index(name = "idx_catalog_products_name", columnList = "name, product_id"),
+        @Index(name = "idx_catalog_products_price", columnList = "min_price, product_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogProductEntity {
+
+    @Id
+    private UUID productId;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false, length = 500)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal maxPrice;
+
+    @Column(nullable = false)
+    private Integer variantCount;
+
+    private UUID primaryFileId;
+
+    @Column(length = 500)
+    private String primaryAltText;
+
+    @Column(nullable = false)
+    private Integer mediaCount;
+
+    @Column(nullable = false)
+    private Instant publishedAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
@@ -14,7 +14,9 @@ import java.util.UUID;
  * Persistence model with JPA annotations.
  */
 @Entity
-@Table(name = "product_media")
+@Table(name = "product_media", indexes = {
+        @Index(name = "idx_product_media_product", columnList = "product_id, sort_order")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,6 +2,7 @@ package dev.cleanslice.platform.product.infrastructure.persistence.entity;
 
 import dev.cleanslice.platform.product.domain.ProductStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -66,6 +67,15 @@ public class ProductEntity {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Optimistic lock version, incremented by Hibernate on every update of the product row.
+     * Domain changes to variants and media also set updatedAt, so every saved change increments it.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
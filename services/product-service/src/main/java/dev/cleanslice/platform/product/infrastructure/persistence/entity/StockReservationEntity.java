@@ -0,0 +1,45 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.entity;
+
+import dev.cleanslice.platform.product.domain.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA Entity for a stock reservation.
+ * The expiry index serves the sweep for active reservations whose hold ran out.
+ */
+@Entity
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_expiry", columnList = "status, expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservationEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID variantId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -41,6 +42,19 @@ public class VariantEntity {
     @Column(nullable = false)
     private Integer stock;
 
+    /**
+     * Number of stock stripes while the variant is in hot-SKU mode, null otherwise.
+     * In hot-SKU mode the stock is held in variant_stock_stripes and this row's stock is zero.
+     */
+    private Integer stockStripes;
+
+    /**
+     * Stock the variant can still reserve: this row's stock plus, in hot-SKU mode, its stripes.
+     * Read-only and loaded with the variant; stock itself only changes through InventoryAdapter.
+     */
+    @Formula("stock + coalesce((SELECT sum(s.stock) FROM variant_stock_stripes s WHERE s.variant_id = id), 0)")
+    private Integer availableStock;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -0,0 +1,39 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * JPA Entity for one striped stock counter of a variant in hot-SKU mode.
+ * Declared for the schema only; the rows are read and written with SQL by InventoryAdapter.
+ */
+@Entity
+@Table(name = "variant_stock_stripes")
+@IdClass(VariantStockStripeEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantStockStripeEntity {
+
+    @Id
+    private UUID variantId;
+
+    @Id
+    private Integer stripe;
+
+    @Column(nullable = false)
+    private Integer stock;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID variantId;
+        private Integer stripe;
+    }
+}
@@ -9,7 +9,12 @@ import dev.cleanslice.platform.product.infrastructure.persistence.entity.MediaEn
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +59,55 @@ public class ProductMapper {
         return entity;
     }
 
+    /**
+     * Apply the state of a domain Product to its managed ProductEntity, touching only what differs.
+     * Children are matched by id: new ones are added, missing ones removed (orphanRemoval deletes them)
+     * and existing ones updated field by field, so Hibernate's dirty checking writes only changed rows.
+     */
+    public void updateEntity(Product product, ProductEntity entity) {
+        entity.setName(product.getName());
+        entity.setDescription(product.getDescription());
+        entity.setStatus(product.getStatus());
+        entity.setUpdatedAt(product.getUpdatedAt());
+
+        // Variants
+        Map<UUID, VariantEntity> variantsById = entity.getVariants().stream()
+                .collect(Collectors.toMap(VariantEntity::getId, Function.identity()));
+        Set<UUID> variantIds = new HashSet<>();
+        for (Variant variant : product.getVariants()) {
+            variantIds.add(variant.getId());
+            VariantEntity existing = variantsById.get(variant.getId());
+            if (existing == null) {
+                entity.addVariant(toVariantEntity(variant, entity));
+            } else {
+                existing.setName(variant.getName());
+                existing.setSku(variant.getSku());
+                existing.setPrice(variant.getPrice());
+                // Stock is left alone: the inventory adapter changes it with atomic SQL, and writing
+                // back the value loaded with the aggregate would undo concurrent reservations
+                existing.setUpdatedAt(variant.getUpdatedAt());
+            }
+        }
+        entity.getVariants().removeIf(variant -> !variantIds.contains(variant.getId()));
+
+        // Media
+        Map<UUID, MediaEntity> mediaById = entity.getMediaList().stream()
+                .collect(Collectors.toMap(MediaEntity::getId, Function.identity()));
+        Set<UUID> mediaIds = new HashSet<>();
+        for (Media media : product.getMediaList()) {
+            mediaIds.add(media.getId());
+            MediaEntity existing = mediaById.get(media.getId());
+            if (existing == null) {
+                entity.addMedia(toMediaEntity(media, entity));
+            } else {
+                existing.setAltText(media.getAltText());
+                existing.setSortOrder(media.getSortOrder());
+                existing.setIsPrimary(media.isPrimary());
+            }
+        }
+        entity.getMediaList().removeIf(media -> !mediaIds.contains(media.getId()));
+    }
+
     /**
      * Convert JPA ProductEntity to domain Product.
      */
@@ -81,7 +135,8 @@ public class ProductMapper {
                 variants,
                 mediaList,
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 
@@ -98,19 +153,23 @@ public class ProductMapper {
                 .build();
     }
 
+    /**
+     * The variant's stock is what it can still reserve, striped counters included. A variant
+     * persisted in this session has not been read back yet, so its row still holds all of it.
+     */
     private Variant toVariantDomain(VariantEntity entity) {
         return new Variant(
                 entity.getId(),
                 entity.getName(),
                 entity.getSku(),
                 entity.getPrice(),
-                entity.getStock(),
+                entity.getAvailableStock() != null ? entity.getAvailableStock() : entity.getStock(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
     }
 
-    private MediaEntity toMediaEntity(Media media, ProductEntity product) {
+    public MediaEntity toMediaEntity(Media media, ProductEntity product) {
         return MediaEntity.builder()
                 .id(media.getId())
                 .product(product)
@@ -122,7 +181,7 @@ public class ProductMapper {
                 .build();
     }
 
-    private Media toMediaDomain(MediaEntity entity) {
+    public Media toMediaDomain(MediaEntity entity) {
         return new Media(
                 entity.getId(),
                 entity.getFileId(),
@@ -0,0 +1,25 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.repository;
+
+import dev.cleanslice.platform.product.infrastructure.persistence.entity.CatalogProductEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for the catalog read model.
+ */
+@Repository
+public interface JpaCatalogProductRepository extends JpaRepository<CatalogProductEntity, UUID> {
+
+    /**
+     * Find a page of catalog rows without counting the whole catalog.
+     * Declared as JPQL because derived queries go through the Criteria API, which rejects
+     * the nulls-last orderings of the price sorts.
+     */
+    @Query("SELECT c FROM CatalogProductEntity c")
+    Slice<CatalogProductEntity> findAllBy(Pageable pageable);
+}
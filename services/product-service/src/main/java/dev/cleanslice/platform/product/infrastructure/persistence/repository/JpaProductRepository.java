@@ -1,30 +1,52 @@
 package dev.cleanslice.platform.product.infrastructure.persistence.repository;
 
-import dev.cleanslice.platform.product.domain.ProductStatus;
 import dev.cleanslice.platform.product.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Spring Data JPA repository for ProductEntity.
  * This is infrastructure - not visible to domain.
+ * <p>
+ * Aggregates are loaded one collection per query: fetching both bags in one join is
+ * rejected by Hibernate and would multiply rows anyway. Call a {@code ...WithVariants}
+ * finder, then {@link #fetchMedia} with its result in the same persistence context.
  */
 @Repository
 public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID> {
 
+    @Query("SELECT DISTINCT p FROM ProductEntity p LEFT JOIN FETCH p.variants WHERE p.id = :id")
+    Optional<ProductEntity> findByIdWithVariants(@Param("id") UUID id);
+
+    @Query("SELECT DISTINCT p FROM ProductEntity p LEFT JOIN FETCH p.variants WHERE p.ownerId = :ownerId")
+    List<ProductEntity> findByOwnerIdWithVariants(@Param("ownerId") UUID ownerId);
+
     /**
-     * Find all products by owner ID.
+     * Initializes the media of already loaded products with one query for all of them.
      */
-    List<ProductEntity> findByOwnerId(UUID ownerId);
+    @Query("SELECT DISTINCT p FROM ProductEntity p LEFT JOIN FETCH p.mediaList WHERE p IN :products")
+    List<ProductEntity> fetchMedia(@Param("products") Collection<ProductEntity> products);
 
     /**
-     * Find all published products.
+     * Loads the product row alone, locked until the end of the transaction, so that
+     * concurrent appends to the same product are serialized.
      */
-    @Query("SELECT p FROM ProductEntity p WHERE p.status = :status")
-    List<ProductEntity> findByStatus(@Param("status") ProductStatus status);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductEntity p WHERE p.id = :id")
+    Optional<ProductEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT MAX(m.sortOrder) FROM MediaEntity m WHERE m.product.id = :productId")
+    Optional<Integer> findMaxMediaSortOrder(@Param("productId") UUID productId);
+
+    @Query("SELECT v.sku FROM VariantEntity v WHERE v.sku IN :skus")
+    List<String> findExistingSkus(@Param("skus") Collection<String> skus);
 }
@@ -0,0 +1,40 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.repository;
+
+import dev.cleanslice.platform.product.domain.ReservationStatus;
+import dev.cleanslice.platform.product.infrastructure.persistence.entity.StockReservationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for stock reservations.
+ * Status changes are conditional updates, so two callers can never both move the same reservation.
+ */
+@Repository
+public interface JpaStockReservationRepository extends JpaRepository<StockReservationEntity, UUID> {
+
+    @Modifying
+    @Query("UPDATE StockReservationEntity r SET r.status = :to WHERE r.id = :id AND r.status = :from")
+    int transition(@Param("id") UUID id, @Param("from") ReservationStatus from, @Param("to") ReservationStatus to);
+
+    @Modifying
+    @Query("""
+            UPDATE StockReservationEntity r SET r.status = dev.cleanslice.platform.product.domain.ReservationStatus.CONFIRMED
+            WHERE r.id = :id
+              AND r.status = dev.cleanslice.platform.product.domain.ReservationStatus.ACTIVE
+              AND r.expiresAt > :now""")
+    int confirm(@Param("id") UUID id, @Param("now") Instant now);
+
+    @Query("""
+            SELECT r.id FROM StockReservationEntity r
+            WHERE r.status = dev.cleanslice.platform.product.domain.ReservationStatus.ACTIVE AND r.expiresAt <= :now
+            ORDER BY r.expiresAt""")
+    List<UUID> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+}
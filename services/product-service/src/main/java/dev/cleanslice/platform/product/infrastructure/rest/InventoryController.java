@@ -0,0 +1,119 @@
+package dev.cleanslice.platform.product.infrastructure.rest;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import dev.cleanslice.platform.product.application.port.StockLevel;
+import dev.cleanslice.platform.product.application.usecase.ConfigureHotSkuUseCase;
+import dev.cleanslice.platform.product.application.usecase.ConfirmReservationUseCase;
+import dev.cleanslice.platform.product.application.usecase.ReleaseReservationUseCase;
+import dev.cleanslice.platform.product.application.usecase.ReserveStockUseCase;
+import dev.cleanslice.platform.product.domain.StockReservation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST API controller for variant stock and reservations.
+ * Lives under /api/products so it is routed and secured like the rest of the service.
+ */
+@RestController
+@RequestMapping("/api/products/inventory")
+@Tag(name = "Inventory", description = "Stock reservation API")
+public class InventoryController {
+
+    private final ReserveStockUseCase reserveStockUseCase;
+    private final ConfirmReservationUseCase confirmReservationUseCase;
+    private final ReleaseReservationUseCase releaseReservationUseCase;
+    private final ConfigureHotSkuUseCase configureHotSkuUseCase;
+    private final InventoryPort inventory;
+
+    public InventoryController(
+            ReserveStockUseCase reserveStockUseCase,
+            ConfirmReservationUseCase confirmReservationUseCase,
+            ReleaseReservationUseCase releaseReservationUseCase,
+            ConfigureHotSkuUseCase configureHotSkuUseCase,
+            InventoryPort inventory) {
+        this.reserveStockUseCase = reserveStockUseCase;
+        this.confirmReservationUseCase = confirmReservationUseCase;
+        this.releaseReservationUseCase = releaseReservationUseCase;
+        this.configureHotSkuUseCase = configureHotSkuUseCase;
+        this.inventory = inventory;
+    }
+
+    @PostMapping("/reservations")
+    @Operation(summary = "Reserve variant stock; 409 when not enough is available")
+    public ResponseEntity<StockReservation> reserve(@RequestBody ReserveStockRequest request) {
+        if (request.variantId() == null || request.quantity() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            StockReservation reservation = reserveStockUseCase.execute(request.variantId(), request.quantity());
+            return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/reservations/{id}/confirm")
+    @Operation(summary = "Confirm a reservation; 409 when it was released or has expired")
+    public ResponseEntity<Void> confirm(@PathVariable UUID id) {
+        try {
+            confirmReservationUseCase.execute(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @DeleteMapping("/reservations/{id}")
+    @Operation(summary = "Release a reservation and return its stock")
+    public ResponseEntity<Void> release(@PathVariable UUID id) {
+        try {
+            releaseReservationUseCase.execute(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/variants/{variantId}")
+    @Operation(summary = "Get the stock a variant can still reserve")
+    public ResponseEntity<StockLevel> getStockLevel(@PathVariable UUID variantId) {
+        return inventory.findStockLevel(variantId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/variants/{variantId}/hot-sku")
+    @Operation(summary = "Split a variant's stock over striped counters for high-contention sales")
+    public ResponseEntity<StockLevel> enableHotSku(@PathVariable UUID variantId,
+                                                   @RequestBody HotSkuRequest request) {
+        try {
+            return ResponseEntity.ok(configureHotSkuUseCase.enable(variantId, request.stripes()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/variants/{variantId}/hot-sku")
+    @Operation(summary = "Fold a variant's striped counters back into one")
+    public ResponseEntity<StockLevel> disableHotSku(@PathVariable UUID variantId) {
+        try {
+            return ResponseEntity.ok(configureHotSkuUseCase.disable(variantId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // DTOs (Request/Response objects)
+    public record ReserveStockRequest(UUID variantId, Integer quantity) {}
+
+    public record HotSkuRequest(int stripes) {}
+}
@@ -1,24 +1,55 @@
 package dev.cleanslice.platform.product.infrastructure.rest;
 
+import dev.cleanslice.platform.product.application.port.AppendedMedia;
+import dev.cleanslice.platform.product.application.port.CatalogPage;
+import dev.cleanslice.platform.product.application.port.CatalogSort;
 import dev.cleanslice.platform.product.application.port.ProductRepositoryPort;
 import dev.cleanslice.platform.product.application.usecase.AttachMediaUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.cleanslice.platform.product.application.usecase.CreateProductUseCase;
+import dev.cleanslice.platform.product.application.usecase.ImportProductsUseCase;
+import dev.cleanslice.platform.product.application.usecase.ListCatalogUseCase;
+import dev.cleanslice.platform.product.application.usecase.ProductImportReport;
+import dev.cleanslice.platform.product.application.usecase.ProductImportRow;
 import dev.cleanslice.platform.product.application.usecase.PublishProductUseCase;
+import dev.cleanslice.platform.product.domain.Media;
 import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.Variant;
 import dev.cleanslice.platform.product.infrastructure.config.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * REST API controller for Product Service.
  * Infrastructure layer - delegates to use cases in application layer.
+ * <p>
+ * Single-product responses carry the product's version as ETag, followed by a fingerprint of its
+ * variants' stock: reservations change stock without bumping the version, and a revalidated copy
+ * must not keep showing stale stock. Media responses carry no ETag, since a media list is not a
+ * representation of the product. Writes accept the ETag back in If-Match, compare only its
+ * version and answer 412 when the product has changed since; without If-Match they apply to the
+ * latest version, and answer 409 only if concurrent writes keep winning the race.
  */
 @RestController
 @RequestMapping("/api/products")
@@ -26,45 +57,73 @@ import java.util.UUID;
 @Slf4j
 public class ProductController {
 
+    private static final Long NO_VERSION = -1L; // expected when If-Match can never match
+
     private final CreateProductUseCase createProductUseCase;
     private final PublishProductUseCase publishProductUseCase;
     private final AttachMediaUseCase attachMediaUseCase;
+    private final ListCatalogUseCase listCatalogUseCase;
+    private final ImportProductsUseCase importProductsUseCase;
     private final ProductRepositoryPort productRepository;
+    private final ObjectMapper objectMapper;
 
     public ProductController(
             CreateProductUseCase createProductUseCase,
             PublishProductUseCase publishProductUseCase,
             AttachMediaUseCase attachMediaUseCase,
-            ProductRepositoryPort productRepository) {
+            ListCatalogUseCase listCatalogUseCase,
+            ImportProductsUseCase importProductsUseCase,
+            ProductRepositoryPort productRepository,
+            ObjectMapper objectMapper) {
         this.createProductUseCase = createProductUseCase;
         this.publishProductUseCase = publishProductUseCase;
         this.attachMediaUseCase = attachMediaUseCase;
+        this.listCatalogUseCase = listCatalogUseCase;
+        this.importProductsUseCase = importProductsUseCase;
         this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     @Operation(summary = "Create a new product")
     public ResponseEntity<Product> createProduct(@RequestBody CreateProductRequest request) {
-        // Get user ID from JWT token via SecurityContext
-        UUID userId;
+        Product product = createProductUseCase.execute(currentUserId(), request.name(), request.description());
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(product)).body(product);
+    }
+
+    /**
+     * The body is read as it arrives and written in batches, so the import can be far larger
+     * than memory. Rows that fail are listed in the report; the rest are imported.
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @Operation(summary = "Bulk import draft products with variants from a streamed NDJSON or CSV body")
+    public ResponseEntity<ProductImportReport> importProducts(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Reader body = new InputStreamReader(request.getInputStream(), charset);
+
+        Iterator<ProductImportRow> rows;
         try {
-            userId = SecurityUtils.getCurrentUserId();
-        } catch (IllegalStateException e) {
-            // Development mode: use a default user ID
-            log.warn("No authenticated user found, using default user ID");
-            userId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+            rows = "csv".equals(contentType.getSubtype())
+                    ? ProductImportReader.csv(body)
+                    : ProductImportReader.ndjson(body, objectMapper);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected product import: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         }
-        
-        Product product = createProductUseCase.execute(userId, request.name(), request.description());
-        return ResponseEntity.status(HttpStatus.CREATED).body(product);
+        return ResponseEntity.ok(importProductsUseCase.execute(currentUserId(), rows));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get product by ID")
-    public ResponseEntity<Product> getProduct(@PathVariable UUID id) {
+    public ResponseEntity<Product> getProduct(@PathVariable UUID id, WebRequest webRequest) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
-        return ResponseEntity.ok(product);
+        String eTag = eTag(product);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(product);
     }
 
     @GetMapping("/owner/{ownerId}")
@@ -75,33 +134,158 @@ public class ProductController {
     }
 
     @GetMapping("/published")
-    @Operation(summary = "Get all published products")
-    public ResponseEntity<List<Product>> getPublishedProducts() {
-        List<Product> products = productRepository.findPublishedProducts();
-        return ResponseEntity.ok(products);
+    @Operation(summary = "Get a page of the published catalog (sort: NEWEST, NAME, PRICE_LOW_TO_HIGH, PRICE_HIGH_TO_LOW)")
+    public ResponseEntity<CatalogPage> getPublishedProducts(
+            @RequestParam(required = false) CatalogSort sort,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(listCatalogUseCase.execute(sort, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PostMapping("/{id}/publish")
     @Operation(summary = "Publish a product")
-    public ResponseEntity<Product> publishProduct(@PathVariable UUID id) {
-        Product product = publishProductUseCase.execute(id);
-        return ResponseEntity.ok(product);
+    public ResponseEntity<Product> publishProduct(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = expectedVersion(id, ifMatch);
+        try {
+            Product product = publishProductUseCase.execute(id, expectedVersion);
+            return ResponseEntity.ok().eTag(eTag(product)).body(product);
+        } catch (OptimisticLockingFailureException e) {
+            return writeConflict(id, expectedVersion, e);
+        }
     }
 
     @PostMapping("/{id}/media")
-    @Operation(summary = "Attach media to product")
-    public ResponseEntity<Product> attachMedia(
+    @Operation(summary = "Attach media to product, after its existing media")
+    public ResponseEntity<Media> attachMedia(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody AttachMediaRequest request) {
         
-        Product product = attachMediaUseCase.execute(
-                id,
+        var attachment = new AttachMediaUseCase.Attachment(
                 request.fileId(),
                 request.altText(),
                 request.isPrimary() != null ? request.isPrimary() : false
         );
         
-        return ResponseEntity.ok(product);
+        Long expectedVersion = expectedVersion(id, ifMatch);
+        try {
+            AppendedMedia appended = attachMediaUseCase.executeBulk(id, List.of(attachment), expectedVersion);
+            return ResponseEntity.ok(appended.media().get(0));
+        } catch (OptimisticLockingFailureException e) {
+            return writeConflict(id, expectedVersion, e);
+        }
+    }
+
+    @PostMapping("/{id}/media/bulk")
+    @Operation(summary = "Attach many files to a product at once, in request order")
+    public ResponseEntity<List<Media>> attachMediaBulk(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody BulkAttachMediaRequest request) {
+        if (request.media() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<AttachMediaUseCase.Attachment> attachments = request.media().stream()
+                .map(item -> new AttachMediaUseCase.Attachment(
+                        item.fileId(),
+                        item.altText(),
+                        item.isPrimary() != null ? item.isPrimary() : false))
+                .toList();
+        Long expectedVersion = expectedVersion(id, ifMatch);
+        try {
+            AppendedMedia appended = attachMediaUseCase.executeBulk(id, attachments, expectedVersion);
+            return ResponseEntity.ok(appended.media());
+        } catch (OptimisticLockingFailureException e) {
+            return writeConflict(id, expectedVersion, e);
+        }
+    }
+
+    private static String eTag(Product product) {
+        int stock = 1;
+        for (Variant variant : product.getVariants()) {
+            stock = 31 * stock + Objects.hash(variant.getId(), variant.getStock());
+        }
+        return "\"" + product.getVersion() + "-" + Integer.toHexString(stock) + "\"";
+    }
+
+    /**
+     * The version an If-Match header asks for, or null when any version will do. The header may
+     * list several ETags, any of which may match; when they name different versions, the one the
+     * product is at now is expected, and the write still fails if it moves on before it lands.
+     * A list with none of our ETags can never match, so it maps to a version no product has.
+     */
+    private Long expectedVersion(UUID productId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            if (tag.strip().equals("*")) {
+                return null;
+            }
+            Long version = version(tag.strip());
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        if (versions.size() == 1) {
+            return versions.iterator().next();
+        }
+        if (versions.isEmpty()) {
+            return NO_VERSION;
+        }
+        return productRepository.findById(productId)
+                .map(Product::getVersion)
+                .filter(versions::contains)
+                .orElse(NO_VERSION);
+    }
+
+    /**
+     * The version in one of our ETags, or null if the tag is not one. A stock fingerprint after the
+     * version is ignored, since stock changes never conflict with these writes.
+     */
+    private static Long version(String tag) {
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return null;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int fingerprint = value.indexOf('-');
+        try {
+            return Long.valueOf(fingerprint < 0 ? value : value.substring(0, fingerprint));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 412 when the caller's If-Match named a version the product is no longer at; 409 when there was
+     * no version to check and the write still lost to concurrent writes after its retries.
+     */
+    private static <T> ResponseEntity<T> writeConflict(UUID productId, Long expectedVersion,
+                                                       OptimisticLockingFailureException e) {
+        if (expectedVersion == null) {
+            log.warn("Write to product {} kept conflicting with concurrent writes: {}", productId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        log.info("Rejected stale write to product {}: {}", productId, e.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    private static UUID currentUserId() {
+        // Get user ID from JWT token via SecurityContext
+        try {
+            return SecurityUtils.getCurrentUserId();
+        } catch (IllegalStateException e) {
+            // Development mode: use a default user ID
+            log.warn("No authenticated user found, using default user ID");
+            return UUID.fromString("00000000-0000-0000-0000-000000000001");
+        }
     }
 
     // DTOs (Request/Response objects)
@@ -112,4 +296,6 @@ public class ProductController {
             String altText,
             Boolean isPrimary
     ) {}
+
+    public record BulkAttachMediaRequest(List<AttachMediaRequest> media) {}
 }
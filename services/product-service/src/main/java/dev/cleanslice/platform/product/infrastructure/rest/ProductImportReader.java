@@ -0,0 +1,390 @@
+package dev.cleanslice.platform.product.infrastructure.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.cleanslice.platform.product.application.usecase.ProductImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a streamed import body into {@link ProductImportRow}s one product at a time,
+ * so memory does not grow with the size of the upload.
+ * <p>
+ * NDJSON has one product per line:
+ * {@code {"name": ..., "description": ..., "variants": [{"name": ..., "sku": ..., "price": ..., "stock": ...}]}}.
+ * <p>
+ * CSV has a header row naming the columns {@code product_key, name, description, variant_name,
+ * sku, price, stock}, in any order, then one row per variant. Consecutive rows with the same
+ * {@code product_key} form one product, whose name and description come from its first row;
+ * a row with all variant columns empty is a product without variants.
+ * <p>
+ * Malformed products become rows with an error; only I/O failures end the iteration early.
+ * A CSV record that cannot be read still belongs to the product named by its key, which is
+ * then reported as invalid as a whole. Fields longer than {@link #MAX_FIELD_LENGTH} and lines
+ * (CSV records) longer than {@link #MAX_LINE_LENGTH} are skipped and reported the same way,
+ * so no single line can make the reader buffer more than that.
+ */
+final class ProductImportReader {
+
+    static final int MAX_FIELD_LENGTH = 64 * 1024;
+    static final int MAX_LINE_LENGTH = 1024 * 1024;
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("product_key", "name", "sku", "price");
+
+    private ProductImportReader() {
+    }
+
+    static Iterator<ProductImportRow> ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdjsonRows(new BufferedReader(reader), objectMapper);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the header is missing or lacks a required column
+     */
+    static Iterator<ProductImportRow> csv(Reader reader) {
+        return new CsvRows(new BufferedReader(reader));
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private record NdjsonProduct(String name, String description, List<NdjsonVariant> variants) {
+    }
+
+    private record NdjsonVariant(String name, String sku, BigDecimal price, Integer stock) {
+    }
+
+    private static final class NdjsonRows implements Iterator<ProductImportRow> {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long lineNumber;
+        private boolean lineTooLong;
+        private ProductImportRow next;
+
+        private NdjsonRows(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ProductImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ProductImportRow row = next;
+            next = null;
+            return row;
+        }
+
+        private ProductImportRow readNext() {
+            try {
+                String line;
+                while ((line = readLine()) != null) {
+                    lineNumber++;
+                    if (lineTooLong) {
+                        return ProductImportRow.invalid(lineNumber,
+                                "Line longer than " + MAX_LINE_LENGTH + " characters");
+                    }
+                    if (!line.isBlank()) {
+                        return parse(line);
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read import", e);
+            }
+        }
+
+        /**
+         * Like {@link BufferedReader#readLine()}, but stops buffering past {@link #MAX_LINE_LENGTH}
+         * and skips to the end of the line, flagging it in {@link #lineTooLong}.
+         */
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            boolean truncated = false;
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (line.length() <= MAX_LINE_LENGTH) { // one spare character for a trailing \r
+                    line.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            if (c == -1 && line.isEmpty()) {
+                return null;
+            }
+            if (!truncated && !line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            lineTooLong = truncated || line.length() > MAX_LINE_LENGTH;
+            return line.toString();
+        }
+
+        private ProductImportRow parse(String line) {
+            NdjsonProduct product;
+            try {
+                product = objectMapper.readValue(line, NdjsonProduct.class);
+            } catch (JsonProcessingException e) {
+                return ProductImportRow.invalid(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (product == null) {
+                return ProductImportRow.invalid(lineNumber, "Expected a JSON object");
+            }
+            List<ProductImportRow.VariantRow> variants = product.variants() == null ? List.of()
+                    : product.variants().stream()
+                            .map(variant -> new ProductImportRow.VariantRow(variant.name(),
+                                    emptyToNull(variant.sku()), variant.price(), variant.stock()))
+                            .toList();
+            return ProductImportRow.of(lineNumber, product.name(), product.description(), variants);
+        }
+    }
+
+    private static final class CsvRows implements Iterator<ProductImportRow> {
+        private final CsvRecords records;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private CsvRecords.CsvRecord pending;
+        private ProductImportRow next;
+
+        private CsvRows(BufferedReader reader) {
+            this.records = new CsvRecords(reader);
+            CsvRecords.CsvRecord header = records.read();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV import has no header row");
+            }
+            for (int i = 0; i < header.fields().size(); i++) {
+                columns.put(header.fields().get(i).strip().toLowerCase(), i);
+            }
+            for (String column : REQUIRED_CSV_COLUMNS) {
+                if (!columns.containsKey(column)) {
+                    throw new IllegalArgumentException("CSV import header lacks column: " + column);
+                }
+            }
+            pending = records.read();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && pending != null) {
+                next = readProduct();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ProductImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ProductImportRow row = next;
+            next = null;
+            return row;
+        }
+
+        /**
+         * Consumes the pending record and every following record with the same product key,
+         * including records that cannot be read, so a bad record invalidates its whole product
+         * instead of splitting it in two.
+         */
+        private ProductImportRow readProduct() {
+            CsvRecords.CsvRecord first = pending;
+            pending = records.read();
+            String error = problem(first);
+            String key = key(first);
+            if (key == null) {
+                return ProductImportRow.invalid(first.line(), error != null ? error : "product_key cannot be blank");
+            }
+
+            List<ProductImportRow.VariantRow> variants = new ArrayList<>();
+            if (error == null) {
+                error = addVariant(first, variants);
+            }
+            while (pending != null && key.equals(key(pending))) {
+                CsvRecords.CsvRecord record = pending;
+                pending = records.read();
+                if (error == null) {
+                    String problem = problem(record);
+                    error = problem != null ? problem + " on line " + record.line() : addVariant(record, variants);
+                }
+            }
+
+            if (error != null) {
+                return ProductImportRow.invalid(first.line(), error);
+            }
+            return ProductImportRow.of(first.line(), field(first, "name"), field(first, "description"), variants);
+        }
+
+        /**
+         * @return why the record cannot be read as a variant row, or null if it can
+         */
+        private String problem(CsvRecords.CsvRecord record) {
+            if (record.error() != null) {
+                return record.error();
+            }
+            if (record.fields().size() != columns.size()) {
+                return "Expected " + columns.size() + " columns";
+            }
+            return null;
+        }
+
+        /**
+         * The product key, read even from a bad record as long as its key field was parsed.
+         */
+        private String key(CsvRecords.CsvRecord record) {
+            int index = columns.get("product_key");
+            return index < record.fields().size() ? emptyToNull(record.fields().get(index)) : null;
+        }
+
+        private String addVariant(CsvRecords.CsvRecord record, List<ProductImportRow.VariantRow> variants) {
+            String variantName = field(record, "variant_name");
+            String sku = field(record, "sku");
+            String price = field(record, "price");
+            String stock = field(record, "stock");
+            if (variantName == null && sku == null && price == null && stock == null) {
+                return null;
+            }
+            try {
+                variants.add(new ProductImportRow.VariantRow(variantName, sku,
+                        price == null ? null : new BigDecimal(price),
+                        stock == null ? null : Integer.valueOf(stock)));
+                return null;
+            } catch (NumberFormatException e) {
+                return "Invalid number on line " + record.line();
+            }
+        }
+
+        private String field(CsvRecords.CsvRecord record, String column) {
+            Integer index = columns.get(column);
+            return index == null ? null : emptyToNull(record.fields().get(index));
+        }
+    }
+
+    /**
+     * RFC 4180 record reader: comma separated, fields optionally quoted, quotes escaped by
+     * doubling, line breaks allowed inside quotes.
+     * <p>
+     * A field or record over the length caps stops being buffered; the rest of the record is
+     * skipped and it is returned with an error and the fields completed before the cap.
+     */
+    private static final class CsvRecords {
+        private final BufferedReader reader;
+        private long lineNumber = 1;
+        private boolean done;
+
+        private CsvRecords(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        record CsvRecord(long line, List<String> fields, String error) {
+        }
+
+        /**
+         * @return the next non-empty record, or null at the end of the input
+         */
+        CsvRecord read() {
+            try {
+                CsvRecord record;
+                do {
+                    record = readRecord();
+                } while (record != null && record.error() == null
+                        && record.fields().size() == 1 && record.fields().get(0).isEmpty());
+                return record;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read import", e);
+            }
+        }
+
+        private CsvRecord readRecord() throws IOException {
+            if (done) {
+                return null;
+            }
+            long startLine = lineNumber;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean fieldStarted = false;
+            int length = 0;
+            String error = null;
+
+            while (true) {
+                int c = reader.read();
+                if (c == -1) {
+                    done = true;
+                    if (quoted) {
+                        return new CsvRecord(startLine, fields, "Unterminated quoted field");
+                    }
+                    if (length == 0) {
+                        return null;
+                    }
+                    return endRecord(startLine, fields, field, error);
+                }
+                length++;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && !fieldStarted) {
+                    quoted = true;
+                } else if (c == ',') {
+                    if (error == null) {
+                        fields.add(field.toString());
+                    }
+                    field.setLength(0);
+                    fieldStarted = false;
+                    continue;
+                } else if (c == '\n') {
+                    lineNumber++;
+                    return endRecord(startLine, fields, field, error);
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                fieldStarted = true;
+
+                if (error == null && length > MAX_LINE_LENGTH) {
+                    error = "Line longer than " + MAX_LINE_LENGTH + " characters";
+                } else if (error == null && field.length() > MAX_FIELD_LENGTH) {
+                    error = "Field longer than " + MAX_FIELD_LENGTH + " characters";
+                }
+                if (error != null) {
+                    field.setLength(0); // only looking for the end of the record from here on
+                }
+            }
+        }
+
+        private static CsvRecord endRecord(long startLine, List<String> fields, StringBuilder field, String error) {
+            if (error == null) {
+                fields.add(field.toString());
+            }
+            return new CsvRecord(startLine, fields, error);
+        }
+    }
+}
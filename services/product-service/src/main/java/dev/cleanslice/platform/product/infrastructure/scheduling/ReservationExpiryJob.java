@@ -0,0 +1,29 @@
+package dev.cleanslice.platform.product.infrastructure.scheduling;
+
+import dev.cleanslice.platform.product.application.usecase.ExpireReservationsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically returns the stock of reservations whose hold ran out.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.reservation.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationExpiryJob {
+
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.expiry.interval:30s}",
+               initialDelayString = "${inventory.reservation.expiry.interval:30s}")
+    void expire() {
+        int total = expireReservationsUseCase.execute();
+        if (total > 0) {
+            log.info("Expired {} stock reservations", total);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExpireReservationsUseCaseTest {
+
+    private final InventoryPort inventory = mock(InventoryPort.class);
+    private final ReleaseReservationUseCase release = mock(ReleaseReservationUseCase.class);
+    private final ExpireReservationsUseCase expire = new ExpireReservationsUseCase(inventory, release, 2,
+            Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void shouldStopExpiringAtFirstFailure() {
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        when(inventory.findExpired(any(Instant.class), anyInt())).thenReturn(List.of(first, second));
+        when(release.expire(first)).thenThrow(new IllegalStateException("database down"));
+
+        assertThat(expire.execute()).isZero();
+
+        verify(release, never()).expire(second);
+    }
+
+    @Test
+    void shouldKeepSweepingWhileBatchesComeBackFull() {
+        var ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(inventory.findExpired(any(Instant.class), anyInt()))
+                .thenReturn(ids.subList(0, 2), ids.subList(2, 3));
+        when(release.expire(any(UUID.class))).thenReturn(true);
+        // Lost the race with a buyer's release: not counted, but the sweep goes on
+        when(release.expire(ids.get(1))).thenReturn(false);
+
+        assertThat(expire.execute()).isEqualTo(2);
+
+        verify(inventory, times(2)).findExpired(any(Instant.class), anyInt());
+    }
+}
@@ -0,0 +1,69 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImportProductsUseCaseTest {
+
+    private final ProductImportCommitter committer = mock(ProductImportCommitter.class);
+    private final List<List<String>> committedBatches = new ArrayList<>();
+    private final ImportProductsUseCase useCase = new ImportProductsUseCase(committer, 2, 10);
+
+    @Test
+    void shouldCommitValidRowsInBatchesAndReportInvalidOnes() {
+        when(committer.commit(anyList())).thenAnswer(invocation -> {
+            List<Product> batch = invocation.getArgument(0);
+            committedBatches.add(batch.stream().map(Product::getName).toList());
+            return Map.of();
+        });
+
+        var report = useCase.execute(UUID.randomUUID(), List.of(
+                row(1, "a", "sku-a"),
+                row(2, " ", "sku-blank"),
+                ProductImportRow.invalid(3, "Malformed JSON"),
+                row(4, "b", "sku-b"),
+                row(5, "c", "sku-c"),
+                row(6, "duplicate", "sku-c")).iterator());
+
+        assertThat(committedBatches).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(report.received()).isEqualTo(6);
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.failed()).isEqualTo(3);
+        assertThat(report.errors()).extracting(ProductImportReport.RowError::line).containsExactly(2L, 3L, 6L);
+    }
+
+    @Test
+    void shouldRetryConflictingBatchOneProductAtATime() {
+        when(committer.commit(anyList())).thenAnswer(invocation -> {
+            List<Product> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || batch.get(0).getName().equals("taken")) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return Map.of();
+        });
+
+        var report = useCase.execute(UUID.randomUUID(), List.of(
+                row(1, "free", "sku-1"),
+                row(2, "taken", "sku-2")).iterator());
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(new ProductImportReport.RowError(2, "Conflicts with existing data"));
+    }
+
+    private static ProductImportRow row(long line, String name, String sku) {
+        return ProductImportRow.of(line, name, null,
+                List.of(new ProductImportRow.VariantRow("default", sku, new BigDecimal("9.99"), 3)));
+    }
+}
@@ -0,0 +1,54 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OptimisticRetryTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OptimisticRetry retry = new OptimisticRetry(transactionManager, 3);
+
+    OptimisticRetryTest() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    void shouldRetryConflictsInFreshTransactions() {
+        var attempts = new AtomicInteger();
+
+        String result = retry.execute(true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "saved";
+        });
+
+        assertThat(result).isEqualTo("saved");
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void shouldNotRetryWhenTheCallerExpectedAVersion() {
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.execute(false, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+}
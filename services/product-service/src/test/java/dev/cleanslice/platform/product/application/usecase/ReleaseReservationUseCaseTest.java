@@ -0,0 +1,35 @@
+package dev.cleanslice.platform.product.application.usecase;
+
+import dev.cleanslice.platform.product.application.port.InventoryPort;
+import dev.cleanslice.platform.product.domain.ReservationStatus;
+import dev.cleanslice.platform.product.domain.StockReservation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReleaseReservationUseCaseTest {
+
+    private final InventoryPort inventory = mock(InventoryPort.class);
+    private final ReleaseReservationUseCase useCase = new ReleaseReservationUseCase(inventory);
+
+    @Test
+    void shouldReturnStockOnlyWhenThisCallEndsTheReservation() {
+        var reservation = StockReservation.create(UUID.randomUUID(), 3, Duration.ofMinutes(5));
+        when(inventory.findReservation(reservation.getId())).thenReturn(Optional.of(reservation));
+        when(inventory.transition(reservation.getId(), ReservationStatus.ACTIVE, ReservationStatus.RELEASED))
+                .thenReturn(true, false);
+
+        assertThat(useCase.execute(reservation.getId())).isTrue();
+        assertThat(useCase.execute(reservation.getId())).isFalse();
+
+        verify(inventory, times(1)).increment(reservation.getVariantId(), 3);
+    }
+}
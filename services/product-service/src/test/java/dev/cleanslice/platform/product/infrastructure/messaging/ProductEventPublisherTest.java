@@ -1,35 +1,31 @@
 package dev.cleanslice.platform.product.infrastructure.messaging;
 
 import dev.cleanslice.platform.common.events.ProductCreatedEvent;
+import dev.cleanslice.platform.common.infra.outbox.OutboxWriter;
 import dev.cleanslice.platform.product.domain.Product;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.springframework.kafka.core.KafkaTemplate;
 
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 class ProductEventPublisherTest {
 
     @Test
-    void shouldAddTypeHeaderWhenPublishing() {
-        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
-        ProductEventPublisher publisher = new ProductEventPublisher(kafkaTemplate);
+    void shouldQueueEventKeyedByProductId() {
+        OutboxWriter outbox = mock(OutboxWriter.class);
+        ProductEventPublisher publisher = new ProductEventPublisher(outbox);
 
         Product product = new Product(UUID.randomUUID(), "name", "desc");
         publisher.publishProductCreated(product);
 
-        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
-        verify(kafkaTemplate).send(captor.capture());
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(outbox).append(eq("products.events.v1"), eq(product.getId().toString()), captor.capture());
 
-        ProducerRecord<String, Object> sent = captor.getValue();
-        assertThat(sent.topic()).isEqualTo("products.events.v1");
-        assertThat(new String(sent.headers().lastHeader("__TypeId__").value(), StandardCharsets.UTF_8))
-                .isEqualTo(ProductCreatedEvent.class.getName());
+        assertThat(captor.getValue()).isInstanceOf(ProductCreatedEvent.class);
     }
 }
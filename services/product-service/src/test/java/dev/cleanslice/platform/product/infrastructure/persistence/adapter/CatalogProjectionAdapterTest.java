@@ -0,0 +1,170 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.adapter;
+
+import dev.cleanslice.platform.product.application.port.CatalogItem;
+import dev.cleanslice.platform.product.application.port.CatalogSort;
+import dev.cleanslice.platform.product.application.usecase.ListCatalogUseCase;
+import dev.cleanslice.platform.product.domain.Media;
+import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.Variant;
+import dev.cleanslice.platform.product.infrastructure.persistence.mapper.ProductMapper;
+import dev.cleanslice.platform.product.infrastructure.persistence.repository.JpaCatalogProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({CatalogProjectionAdapter.class, InventoryAdapter.class, ProductRepositoryAdapter.class, ProductMapper.class})
+class CatalogProjectionAdapterTest extends PostgresJpaTest {
+
+    @Autowired
+    private CatalogProjectionAdapter catalog;
+
+    @Autowired
+    private InventoryAdapter inventory;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private JpaCatalogProductRepository catalogRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldUpsertOneRowPerPublishedProduct() {
+        var primaryFileId = UUID.randomUUID();
+        var product = new Product(UUID.randomUUID(), "lamp", "desk lamp");
+        var cheap = variant("10.00", 3);
+        var dear = variant("50.00", 4);
+        product.addVariant(cheap);
+        product.addVariant(dear);
+        product.addMedia(new Media(UUID.randomUUID(), "side", 0, false));
+        product.addMedia(new Media(primaryFileId, "front", 1, true));
+        product.publish();
+        productRepository.save(product);
+
+        catalog.refresh(product.getId());
+        catalog.refresh(product.getId());
+
+        assertThat(catalogRepository.count()).isEqualTo(1);
+        var item = catalog.findPage(CatalogSort.NAME, 0, 10).items().get(0);
+        assertThat(item.productId()).isEqualTo(product.getId());
+        assertThat(item.minPrice()).isEqualByComparingTo("10.00");
+        assertThat(item.maxPrice()).isEqualByComparingTo("50.00");
+        assertThat(item.variantCount()).isEqualTo(2);
+        assertThat(item.mediaCount()).isEqualTo(2);
+        assertThat(item.primaryFileId()).isEqualTo(primaryFileId);
+        assertThat(item.primaryAltText()).isEqualTo("front");
+    }
+
+    @Test
+    void shouldListTheStockLeftAfterAReservation() {
+        var listing = new ListCatalogUseCase(catalog, inventory, 24, 100);
+        var product = new Product(UUID.randomUUID(), "lamp", null);
+        var plain = variant("10.00", 3);
+        var hot = variant("50.00", 4);
+        product.addVariant(plain);
+        product.addVariant(hot);
+        product.publish();
+        productRepository.save(product);
+        inventory.stripe(hot.getId(), 3);
+        catalog.refresh(product.getId());
+        assertThat(listing.execute(null, null, null).items().get(0).totalStock()).isEqualTo(7);
+
+        // Reservations never touch the catalog row, yet the listing follows them
+        assertThat(inventory.tryDecrement(hot.getId(), 4)).isTrue();
+        assertThat(inventory.tryDecrement(plain.getId(), 1)).isTrue();
+
+        assertThat(listing.execute(null, null, null).items().get(0).totalStock()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLeaveDraftsOutOfTheCatalog() {
+        var draft = productRepository.save(new Product(UUID.randomUUID(), "draft", null));
+
+        catalog.refresh(draft.getId());
+
+        assertThat(catalogRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldOrderEachSortWithProductsWithoutPricesLast() {
+        var lamp = published("lamp", "10.00", "50.00");
+        var chair = published("chair", "20.00", "30.00");
+        var poster = published("poster");
+        for (var id : new UUID[]{lamp, chair, poster}) {
+            catalog.refresh(id);
+        }
+        publishedAt(lamp, "2026-01-01T00:00:00Z");
+        publishedAt(chair, "2026-03-01T00:00:00Z");
+        publishedAt(poster, "2026-02-01T00:00:00Z");
+
+        assertThat(order(CatalogSort.NEWEST)).containsExactly(chair, poster, lamp);
+        assertThat(order(CatalogSort.NAME)).containsExactly(chair, lamp, poster);
+        assertThat(order(CatalogSort.PRICE_LOW_TO_HIGH)).containsExactly(lamp, chair, poster);
+        assertThat(order(CatalogSort.PRICE_HIGH_TO_LOW)).containsExactly(lamp, chair, poster);
+    }
+
+    @Test
+    void shouldPageWithoutCountingTheCatalog() {
+        for (var name : new String[]{"a", "b", "c"}) {
+            catalog.refresh(published(name, "1.00"));
+        }
+
+        var first = catalog.findPage(CatalogSort.NAME, 0, 2);
+        var second = catalog.findPage(CatalogSort.NAME, 1, 2);
+
+        assertThat(first.items()).extracting(CatalogItem::name).containsExactly("a", "b");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.items()).extracting(CatalogItem::name).containsExactly("c");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldBackfillOnlyAnEmptyCatalog() {
+        published("lamp", "10.00");
+        published("chair", "20.00");
+        productRepository.save(new Product(UUID.randomUUID(), "draft", null));
+
+        catalog.backfillIfEmpty();
+        assertThat(catalogRepository.count()).isEqualTo(2);
+
+        published("poster", "5.00");
+        catalog.backfillIfEmpty();
+        assertThat(catalogRepository.count()).isEqualTo(2);
+    }
+
+    private UUID published(String name, String... prices) {
+        var product = new Product(UUID.randomUUID(), name, null);
+        for (var price : prices) {
+            product.addVariant(variant(price, 1));
+        }
+        product.publish();
+        return productRepository.save(product).getId();
+    }
+
+    private static Variant variant(String price, int stock) {
+        return new Variant(UUID.randomUUID(), "variant", UUID.randomUUID().toString(),
+                new BigDecimal(price), stock, Instant.now(), Instant.now());
+    }
+
+    private void publishedAt(UUID productId, String publishedAt) {
+        entityManager.createNativeQuery("UPDATE catalog_products SET published_at = :publishedAt WHERE product_id = :id")
+                .setParameter("publishedAt", Instant.parse(publishedAt))
+                .setParameter("id", productId)
+                .executeUpdate();
+    }
+
+    private List<UUID> order(CatalogSort sort) {
+        entityManager.clear();
+        return catalog.findPage(sort, 0, 10).items().stream().map(CatalogItem::productId).toList();
+    }
+}
@@ -0,0 +1,122 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.adapter;
+
+import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.ReservationStatus;
+import dev.cleanslice.platform.product.domain.StockReservation;
+import dev.cleanslice.platform.product.domain.Variant;
+import dev.cleanslice.platform.product.infrastructure.persistence.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({InventoryAdapter.class, ProductRepositoryAdapter.class, ProductMapper.class})
+class InventoryAdapterTest {
+
+    @Autowired
+    private InventoryAdapter inventory;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID ownerId = UUID.randomUUID();
+
+    @Test
+    void shouldNeverTakeMoreStockThanAvailable() {
+        var variantId = variantWithStock(5);
+
+        assertThat(inventory.tryDecrement(variantId, 3)).isTrue();
+        assertThat(inventory.tryDecrement(variantId, 3)).isFalse();
+        assertThat(inventory.tryDecrement(variantId, 2)).isTrue();
+        assertThat(inventory.findStockLevel(variantId).orElseThrow().available()).isZero();
+        assertThatThrownBy(() -> inventory.tryDecrement(UUID.randomUUID(), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldKeepTotalStockWhenStripingAndDrainAcrossStripes() {
+        var variantId = variantWithStock(10);
+
+        inventory.stripe(variantId, 4);
+        var striped = inventory.findStockLevel(variantId).orElseThrow();
+        assertThat(striped.stripes()).isEqualTo(4);
+        assertThat(striped.available()).isEqualTo(10);
+
+        // No single stripe holds 7 (they hold 3, 3, 2, 2), so the locked slow path takes it
+        assertThat(inventory.tryDecrement(variantId, 7)).isTrue();
+        assertThat(inventory.tryDecrement(variantId, 4)).isFalse();
+        inventory.increment(variantId, 2);
+        assertThat(inventory.findStockLevel(variantId).orElseThrow().available()).isEqualTo(5);
+
+        inventory.unstripe(variantId);
+        var folded = inventory.findStockLevel(variantId).orElseThrow();
+        assertThat(folded.stripes()).isZero();
+        assertThat(folded.available()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldShowStripedStockOnTheLoadedProduct() {
+        var variantId = variantWithStock(10);
+        inventory.stripe(variantId, 3);
+        assertThat(inventory.tryDecrement(variantId, 4)).isTrue();
+        entityManager.flush();
+        entityManager.clear();
+
+        var product = productRepository.findByOwnerId(ownerId).get(0);
+
+        assertThat(product.getVariants().get(0).getStock()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldSumAvailableStockPerProductIncludingStripes() {
+        var striped = variantWithStock(10);
+        var plain = variantWithStock(3);
+        inventory.stripe(striped, 4);
+        assertThat(inventory.tryDecrement(striped, 2)).isTrue();
+        var products = productRepository.findByOwnerId(ownerId).stream()
+                .collect(Collectors.toMap(product -> product.getVariants().get(0).getId(), Product::getId));
+
+        var available = inventory.findAvailableByProduct(List.of(products.get(striped), products.get(plain)));
+
+        assertThat(available).containsOnly(entry(products.get(striped), 8), entry(products.get(plain), 3));
+        assertThat(inventory.findAvailableByProduct(List.of())).isEmpty();
+    }
+
+    @Test
+    void shouldMoveReservationOutOfActiveOnlyOnce() {
+        var reservation = StockReservation.create(variantWithStock(1), 1, Duration.ofMinutes(5));
+        inventory.saveReservation(reservation);
+
+        assertThat(inventory.findExpired(Instant.now(), 10)).isEmpty();
+        assertThat(inventory.findExpired(Instant.now().plus(Duration.ofMinutes(6)), 10))
+                .containsExactly(reservation.getId());
+        assertThat(inventory.confirm(reservation.getId(), Instant.now())).isTrue();
+        assertThat(inventory.transition(reservation.getId(), ReservationStatus.ACTIVE, ReservationStatus.RELEASED))
+                .isFalse();
+    }
+
+    private UUID variantWithStock(int stock) {
+        var product = new Product(ownerId, "product", "description");
+        var variant = new Variant(UUID.randomUUID(), "default", UUID.randomUUID().toString(),
+                BigDecimal.TEN, stock, Instant.now(), Instant.now());
+        product.addVariant(variant);
+        productRepository.save(product);
+        return variant.getId();
+    }
+}
@@ -0,0 +1,154 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.adapter;
+
+import dev.cleanslice.platform.product.application.usecase.ReserveStockUseCase;
+import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.Variant;
+import dev.cleanslice.platform.product.infrastructure.persistence.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({InventoryAdapter.class, ProductRepositoryAdapter.class, ProductMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryConcurrencyTest extends PostgresJpaTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private InventoryAdapter inventory;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Test
+    void shouldNeverOversellAnUnstripedVariant() throws Exception {
+        assertReservesExactlyTheStock(variantWithStock(20));
+    }
+
+    @Test
+    void shouldNeverOversellAStripedVariant() throws Exception {
+        var variantId = variantWithStock(20);
+        inventory.stripe(variantId, 4);
+
+        assertReservesExactlyTheStock(variantId);
+    }
+
+    @Test
+    void shouldConserveStockWhileStripingAndUnstripingUnderLoad() throws Exception {
+        var variantId = variantWithStock(50);
+        var taken = new AtomicInteger();
+        var returned = new AtomicInteger();
+        var buyersDone = new AtomicBoolean();
+
+        var tasks = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < THREADS - 1; i++) {
+            tasks.add(() -> {
+                for (int round = 0; round < 30; round++) {
+                    if (inventory.tryDecrement(variantId, 2)) {
+                        taken.addAndGet(2);
+                        if (round % 2 == 0) {
+                            inventory.increment(variantId, 2);
+                            returned.addAndGet(2);
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        tasks.add(() -> {
+            for (int round = 0; !buyersDone.get(); round++) {
+                if (round % 2 == 0) {
+                    inventory.stripe(variantId, 2 + round % 3);
+                } else {
+                    inventory.unstripe(variantId);
+                }
+            }
+            return null;
+        });
+        runConcurrently(tasks, () -> buyersDone.set(true));
+
+        var level = inventory.findStockLevel(variantId).orElseThrow();
+        assertThat(level.available()).isEqualTo(50 - taken.get() + returned.get()).isNotNegative();
+        inventory.unstripe(variantId);
+        assertThat(inventory.findStockLevel(variantId).orElseThrow().available()).isEqualTo(level.available());
+    }
+
+    private void assertReservesExactlyTheStock(UUID variantId) throws Exception {
+        var reserve = new ReserveStockUseCase(inventory, Duration.ofMinutes(5));
+        var reserved = new AtomicInteger();
+        var refused = new AtomicInteger();
+
+        var tasks = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                for (int round = 0; round < 5; round++) {
+                    try {
+                        reserve.execute(variantId, 1);
+                        reserved.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        refused.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        runConcurrently(tasks, () -> { });
+
+        assertThat(reserved.get()).isEqualTo(20);
+        assertThat(refused.get()).isEqualTo(THREADS * 5 - 20);
+        assertThat(inventory.findStockLevel(variantId).orElseThrow().available()).isZero();
+    }
+
+    /**
+     * Starts all tasks at once, runs {@code afterFirstTasks} once all but the last have finished,
+     * and rethrows the first failure.
+     */
+    private static void runConcurrently(List<Callable<Void>> tasks, Runnable afterFirstTasks) throws Exception {
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            var results = new ArrayList<Future<Void>>();
+            for (var task : tasks) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (var result : results.subList(0, results.size() - 1)) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+            afterFirstTasks.run();
+            results.get(results.size() - 1).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UUID variantWithStock(int stock) {
+        var product = new Product(UUID.randomUUID(), "product", "description");
+        var variant = new Variant(UUID.randomUUID(), "default", UUID.randomUUID().toString(),
+                BigDecimal.TEN, stock, Instant.now(), Instant.now());
+        product.addVariant(variant);
+        productRepository.save(product);
+        return variant.getId();
+    }
+}
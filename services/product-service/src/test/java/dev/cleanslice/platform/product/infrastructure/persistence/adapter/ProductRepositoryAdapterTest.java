@@ -0,0 +1,211 @@
+package dev.cleanslice.platform.product.infrastructure.persistence.adapter;
+
+import dev.cleanslice.platform.product.domain.Media;
+import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.Variant;
+import dev.cleanslice.platform.product.infrastructure.persistence.mapper.ProductMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({ProductRepositoryAdapter.class, ProductMapper.class})
+class ProductRepositoryAdapterTest {
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldLoadOwnerProductsWithOneQueryPerCollection() {
+        var ownerId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(product(ownerId, "product-" + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var products = productRepository.findByOwnerId(ownerId);
+
+        assertThat(products).hasSize(5)
+                .allSatisfy(product -> {
+                    assertThat(product.getVariants()).hasSize(2);
+                    assertThat(product.getMediaList()).hasSize(3);
+                });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLoadSingleProductWithOneQueryPerCollection() {
+        var saved = productRepository.save(product(UUID.randomUUID(), "single"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var product = productRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(product.getVariants()).hasSize(2);
+        assertThat(product.getMediaList()).extracting(Media::getSortOrder).containsExactly(0, 1, 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWriteOnlyTheAddedMediaWhateverTheAggregateSize() {
+        var small = attachOneMedia(3);
+        var large = attachOneMedia(200);
+
+        assertThat(small.inserts()).isEqualTo(1);
+        assertThat(small.deletes()).isZero();
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void shouldAppendMediaAfterExistingOnesWithoutLoadingThem() {
+        var small = appendTwoMedia(3);
+        var large = appendTwoMedia(200);
+
+        assertThat(small.inserts()).isEqualTo(2);
+        assertThat(small.updates()).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void shouldRejectAppendToMissingProduct() {
+        assertThatThrownBy(() -> productRepository.appendMedia(UUID.randomUUID(),
+                List.of(Media.create(UUID.randomUUID(), null, 0, false)), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectSavingAStaleVersion() {
+        var saved = productRepository.save(product(UUID.randomUUID(), "versioned"));
+        entityManager.flush();
+        entityManager.clear();
+
+        var first = productRepository.findById(saved.getId()).orElseThrow();
+        var second = productRepository.findById(saved.getId()).orElseThrow();
+        first.publish();
+        var published = productRepository.save(first);
+
+        assertThat(published.getVersion()).isEqualTo(second.getVersion() + 1);
+        second.setName("renamed");
+        assertThatThrownBy(() -> productRepository.save(second))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> productRepository.appendMedia(saved.getId(),
+                List.of(Media.create(UUID.randomUUID(), null, 0, false)), second.getVersion()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void shouldInsertImportedProductsInJdbcBatches() {
+        var ownerId = UUID.randomUUID();
+        var products = new ArrayList<Product>();
+        for (int i = 0; i < 120; i++) {
+            products.add(product(ownerId, "imported-" + i, 0));
+        }
+        statistics.clear();
+
+        productRepository.insertAll(products);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(360);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(productRepository.findExistingSkus(List.of(
+                products.get(0).getVariants().get(0).getSku(), "unknown"))).hasSize(1);
+    }
+
+    /**
+     * Appends two media to a product with the given number of media, checks where they
+     * were placed and returns what the append cost.
+     */
+    private WriteCost appendTwoMedia(int existingMedia) {
+        var saved = productRepository.save(product(UUID.randomUUID(), "product", existingMedia));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var appended = productRepository.appendMedia(saved.getId(), List.of(
+                Media.create(UUID.randomUUID(), "first", 0, false),
+                Media.create(UUID.randomUUID(), "second", 0, false)), saved.getVersion());
+        var cost = new WriteCost(statistics.getPrepareStatementCount(), statistics.getEntityInsertCount(),
+                statistics.getEntityUpdateCount(), statistics.getEntityDeleteCount());
+        entityManager.clear();
+
+        assertThat(appended.media()).extracting(Media::getSortOrder).containsExactly(existingMedia, existingMedia + 1);
+        var reloaded = productRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getVersion()).isEqualTo(saved.getVersion() + 1);
+        assertThat(reloaded.getMediaList())
+                .hasSize(existingMedia + 2)
+                .last().extracting(Media::getAltText).isEqualTo("second");
+        return cost;
+    }
+
+    /**
+     * Loads a product with the given number of media, attaches one more and saves it,
+     * returning what the round trip cost.
+     */
+    private WriteCost attachOneMedia(int existingMedia) {
+        var saved = productRepository.save(product(UUID.randomUUID(), "product", existingMedia));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var product = productRepository.findById(saved.getId()).orElseThrow();
+        product.addMedia(Media.create(UUID.randomUUID(), "new", existingMedia, false));
+        productRepository.save(product);
+        entityManager.flush();
+
+        return new WriteCost(statistics.getPrepareStatementCount(), statistics.getEntityInsertCount(),
+                statistics.getEntityUpdateCount(), statistics.getEntityDeleteCount());
+    }
+
+    private static Product product(UUID ownerId, String name) {
+        return product(ownerId, name, 3);
+    }
+
+    private static Product product(UUID ownerId, String name, int mediaCount) {
+        var product = new Product(ownerId, name, "description");
+        for (int i = 0; i < 2; i++) {
+            product.addVariant(new Variant(UUID.randomUUID(), name + "-v" + i, UUID.randomUUID().toString(),
+                    BigDecimal.TEN, 5, Instant.now(), Instant.now()));
+        }
+        for (int i = 0; i < mediaCount; i++) {
+            product.addMedia(Media.create(UUID.randomUUID(), null, i, i == 0));
+        }
+        return product;
+    }
+
+    private record WriteCost(long statements, long inserts, long updates, long deletes) {
+    }
+}
@@ -0,0 +1,153 @@
+package dev.cleanslice.platform.product.infrastructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.cleanslice.platform.product.application.port.AppendedMedia;
+import dev.cleanslice.platform.product.application.port.ProductRepositoryPort;
+import dev.cleanslice.platform.product.application.usecase.AttachMediaUseCase;
+import dev.cleanslice.platform.product.application.usecase.CreateProductUseCase;
+import dev.cleanslice.platform.product.application.usecase.ImportProductsUseCase;
+import dev.cleanslice.platform.product.application.usecase.ListCatalogUseCase;
+import dev.cleanslice.platform.product.application.usecase.PublishProductUseCase;
+import dev.cleanslice.platform.product.domain.Media;
+import dev.cleanslice.platform.product.domain.Product;
+import dev.cleanslice.platform.product.domain.ProductStatus;
+import dev.cleanslice.platform.product.domain.Variant;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProductControllerTest {
+
+    private final PublishProductUseCase publishProduct = mock(PublishProductUseCase.class);
+    private final AttachMediaUseCase attachMedia = mock(AttachMediaUseCase.class);
+    private final ProductRepositoryPort productRepository = mock(ProductRepositoryPort.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ProductController(
+            mock(CreateProductUseCase.class), publishProduct, attachMedia,
+            mock(ListCatalogUseCase.class), mock(ImportProductsUseCase.class), productRepository,
+            new ObjectMapper())).build();
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID variantId = UUID.randomUUID();
+
+    @Test
+    void shouldAnswerNotModifiedWhileVersionAndStockAreUnchanged() throws Exception {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product(3L, 10)));
+        String eTag = getETag();
+
+        mockMvc.perform(get("/api/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    void shouldChangeETagWhenOnlyStockChanged() throws Exception {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product(3L, 10)));
+        String before = getETag();
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product(3L, 9)));
+
+        String after = mockMvc.perform(get("/api/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(after).isNotEqualTo(before).startsWith("\"3-");
+    }
+
+    @Test
+    void shouldPublishWhenIfMatchCarriesTheCurrentVersion() throws Exception {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product(3L, 10)));
+        when(publishProduct.execute(productId, 3L)).thenReturn(product(4L, 10));
+
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, getETag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"4-")));
+    }
+
+    @Test
+    void shouldAnswerPreconditionFailedForAStaleIfMatch() throws Exception {
+        when(publishProduct.execute(productId, 2L))
+                .thenThrow(new OptimisticLockingFailureException("Product is at version 3, not 2"));
+        when(publishProduct.execute(productId, -1L))
+                .thenThrow(new OptimisticLockingFailureException("Product is at version 3, not -1"));
+
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, "\"2-7f\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, "not-an-etag"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldMatchAnyETagInAnIfMatchList() throws Exception {
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product(4L, 10)));
+        when(publishProduct.execute(productId, 4L)).thenReturn(product(5L, 10));
+        when(publishProduct.execute(productId, -1L))
+                .thenThrow(new OptimisticLockingFailureException("Product is at version 4, not -1"));
+
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, "\"3-ab\", \"4-cd\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"5-")));
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, "junk, \"4-cd\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, "\"2-ab\", \"3-cd\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldAnswerConflictWhenAWriteWithoutIfMatchKeepsLosingTheRace() throws Exception {
+        when(publishProduct.execute(productId, null))
+                .thenThrow(new OptimisticLockingFailureException("Product changed during every attempt"));
+
+        mockMvc.perform(post("/api/products/{id}/publish", productId))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/products/{id}/publish", productId).header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldNotTagMediaResponsesWithAProductETag() throws Exception {
+        var media = new Media(UUID.randomUUID(), "front", 0, true);
+        when(attachMedia.executeBulk(eq(productId), anyList(), eq(3L)))
+                .thenReturn(new AppendedMedia(productId, UUID.randomUUID(), "lamp", List.of(media)));
+
+        mockMvc.perform(post("/api/products/{id}/media", productId)
+                        .header(HttpHeaders.IF_MATCH, "\"3-7f\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fileId\":\"" + media.getFileId() + "\",\"altText\":\"front\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String getETag() throws Exception {
+        return mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private Product product(Long version, int stock) {
+        var variant = new Variant(variantId, "default", "SKU-1", BigDecimal.TEN, stock,
+                Instant.EPOCH, Instant.EPOCH);
+        return new Product(productId, UUID.randomUUID(), "lamp", null, ProductStatus.DRAFT,
+                List.of(variant), List.of(), Instant.EPOCH, Instant.EPOCH, version);
+    }
+}
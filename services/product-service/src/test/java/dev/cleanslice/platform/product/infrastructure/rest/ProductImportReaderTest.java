@@ -0,0 +1,115 @@
+package dev.cleanslice.platform.product.infrastructure.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.cleanslice.platform.product.application.usecase.ProductImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductImportReaderTest {
+
+    @Test
+    void shouldGroupConsecutiveCsvRowsIntoProducts() {
+        var rows = readAll(ProductImportReader.csv(new StringReader("""
+                product_key,name,description,variant_name,sku,price,stock\r
+                p1,Shirt,"Soft, ""organic""
+                cotton",Small,SH-S,19.90,4\r
+                p1,,,Large,SH-L,21.90,\r
+                p2,Poster,,,,,
+                p3,Mug,,Default,MUG-1,not-a-price,1
+                """)));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).line()).isEqualTo(2);
+        assertThat(rows.get(0).description()).isEqualTo("Soft, \"organic\"\ncotton");
+        assertThat(rows.get(0).variants()).containsExactly(
+                new ProductImportRow.VariantRow("Small", "SH-S", new BigDecimal("19.90"), 4),
+                new ProductImportRow.VariantRow("Large", "SH-L", new BigDecimal("21.90"), null));
+        assertThat(rows.get(1).line()).isEqualTo(5);
+        assertThat(rows.get(1).variants()).isEmpty();
+        assertThat(rows.get(2).error()).isEqualTo("Invalid number on line 6");
+    }
+
+    @Test
+    void shouldRejectCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> ProductImportReader.csv(new StringReader("name,price\nShirt,1\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("product_key");
+    }
+
+    @Test
+    void shouldReportMalformedNdjsonLinesAndContinue() {
+        var rows = readAll(ProductImportReader.ndjson(new StringReader("""
+                {"name":"Shirt","variants":[{"name":"Small","sku":"SH-S","price":19.9,"stock":4}]}
+
+                {"name":"Broken",
+                {"name":"Mug"}
+                """), new ObjectMapper()));
+
+        assertThat(rows).extracting(ProductImportRow::line).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).variants()).hasSize(1);
+        assertThat(rows.get(1).error()).startsWith("Malformed JSON");
+        assertThat(rows.get(2).name()).isEqualTo("Mug");
+    }
+
+    @Test
+    void shouldInvalidateTheWholeProductWhenOneOfItsCsvRecordsIsBad() {
+        var rows = readAll(ProductImportReader.csv(new StringReader("""
+                product_key,name,description,variant_name,sku,price,stock
+                p1,Shirt,,Small,SH-S,19.90,4
+                p1,,,Medium,SH-M,20.90
+                p1,,,Large,SH-L,21.90,2
+                p2,Mug,,Default,MUG-1,9.90,1
+                p3,Lamp,,Default,LA-1
+                p3,,,Large,LA-L,30.00,1
+                """)));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).line()).isEqualTo(2);
+        assertThat(rows.get(0).error()).isEqualTo("Expected 7 columns on line 3");
+        assertThat(rows.get(1).name()).isEqualTo("Mug");
+        assertThat(rows.get(2).line()).isEqualTo(6);
+        assertThat(rows.get(2).error()).isEqualTo("Expected 7 columns");
+    }
+
+    @Test
+    void shouldReportAnOversizedCsvFieldAndResumeAtTheNextRecord() {
+        String description = "\"" + "x".repeat(ProductImportReader.MAX_FIELD_LENGTH + 1) + ",\n\"\"\"";
+        var rows = readAll(ProductImportReader.csv(new StringReader("""
+                product_key,name,description,variant_name,sku,price,stock
+                p1,Shirt,,Small,SH-S,19.90,4
+                p1,,%s,Large,SH-L,21.90,2
+                p2,Mug,,Default,MUG-1,9.90,1
+                """.formatted(description))));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error())
+                .isEqualTo("Field longer than " + ProductImportReader.MAX_FIELD_LENGTH + " characters on line 3");
+        assertThat(rows.get(1).name()).isEqualTo("Mug");
+        assertThat(rows.get(1).line()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReportAnOversizedNdjsonLineAndContinue() {
+        String longName = "x".repeat(ProductImportReader.MAX_LINE_LENGTH);
+        var rows = readAll(ProductImportReader.ndjson(new StringReader(
+                "{\"name\":\"" + longName + "\"}\r\n{\"name\":\"Mug\"}\r\n"), new ObjectMapper()));
+
+        assertThat(rows).extracting(ProductImportRow::line).containsExactly(1L, 2L);
+        assertThat(rows.get(0).error()).isEqualTo("Line longer than " + ProductImportReader.MAX_LINE_LENGTH + " characters");
+        assertThat(rows.get(1).name()).isEqualTo("Mug");
+    }
+
+    private static List<ProductImportRow> readAll(Iterator<ProductImportRow> iterator) {
+        List<ProductImportRow> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+}
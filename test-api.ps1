@@ -212,8 +212,8 @@ try {
         -Body $attachMediaBody
 
     Write-Host "✓ Media attached to product!" -ForegroundColor Green
-    Write-Host "  Product ID: $($attachResponse.id)" -ForegroundColor White
-    Write-Host "  Media Count: $($attachResponse.mediaList.Count)" -ForegroundColor White
+    Write-Host "  Media ID: $($attachResponse.id)" -ForegroundColor White
+    Write-Host "  Sort Order: $($attachResponse.sortOrder)" -ForegroundColor White
     Write-Host ""
 
 } catch {
@@ -237,13 +237,13 @@ try {
         -Headers @{ "Authorization" = "Bearer $token" }
 
     Write-Host "✓ Audit logs retrieved!" -ForegroundColor Green
-    Write-Host "  Total logs: $($auditResponse.Count)" -ForegroundColor White
+    Write-Host "  Logs on first page: $($auditResponse.items.Count)" -ForegroundColor White
     
-    if ($auditResponse.Count -gt 0) {
+    if ($auditResponse.items.Count -gt 0) {
         Write-Host ""
         Write-Host "  Recent audit events:" -ForegroundColor Yellow
-        $auditResponse | Select-Object -First 5 | ForEach-Object {
-            Write-Host "    - $($_.action) | Resource: $($_.resourceType) | Time: $($_.timestamp)" -ForegroundColor Gray
+        $auditResponse.items | Select-Object -First 5 | ForEach-Object {
+            Write-Host "    - $($_.action) | Resource: $($_.resourceType) | Time: $($_.occurredAt)" -ForegroundColor Gray
         }
     }
     Write-Host ""